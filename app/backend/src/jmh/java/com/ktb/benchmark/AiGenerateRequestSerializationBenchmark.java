@@ -0,0 +1,63 @@
+package com.ktb.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.restaurant.google.mapper.PlaceSummaryMapper;
+import com.ktb.restaurant.google.rating.BayesianRatingCalculator;
+import com.ktb.submission.dto.request.AiGenerateRequest;
+import com.ktb.submission.dto.request.RestaurantCandidate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * LLM /generate 요청 본문(후보 20개) Jackson 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiGenerateRequestSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private AiGenerateRequest request;
+
+    @Setup
+    public void setUp() {
+        // llmWebClient 코덱과 같은 Spring 기본 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        PlaceSummaryMapper mapper = new PlaceSummaryMapper(new BayesianRatingCalculator(3.0, 100));
+        List<RestaurantCandidate> candidates = NearbyFixtures.gangnam20().places().stream()
+                .map(mapper::toDto)
+                .map(RestaurantCandidate::fromPlaceSummary)
+                .toList();
+
+        request = new AiGenerateRequest(
+                4,
+                "강남",
+                List.of("치킨,피자", "파스타,스테이크", "초밥,회"),
+                List.of("생선", "매운음식", "육류"),
+                20000,
+                candidates,
+                400
+        );
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ktb.benchmark;
+
+import com.ktb.submission.schedule.DateAvailability;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 1년 범위 그룹의 날짜 추천 (멤버별 30일 불가)
+ * 실행: ./gradlew jmh -PjmhIncludes=DateAvailabilityBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateAvailabilityBenchmark {
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = START.plusDays(364);
+
+    @Param({"10", "300"})
+    private int members;
+
+    private List<List<LocalDate>> memberExclusions;
+    private Map<LocalDate, Integer> aggregatedCounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        memberExclusions = new ArrayList<>(members);
+        aggregatedCounts = new TreeMap<>();
+        for (int m = 0; m < members; m++) {
+            List<LocalDate> dates = new ArrayList<>(30);
+            for (int d = 0; d < 30; d++) {
+                dates.add(START.plusDays(random.nextInt(365)));
+            }
+            memberExclusions.add(dates);
+            dates.stream().distinct().forEach(date -> aggregatedCounts.merge(date, 1, Integer::sum));
+        }
+    }
+
+    // 멤버별 제외 날짜를 OR로 누적 후 순위 계산
+    @Benchmark
+    public List<DateAvailability.RankedDay> fromMemberExclusions() {
+        DateAvailability availability = new DateAvailability(START, END);
+        memberExclusions.forEach(availability::excludeMember);
+        return availability.rank(3);
+    }
+
+    // 통합 제출 경로: 그룹 집계의 날짜별 불참 인원에서 순위 계산
+    @Benchmark
+    public List<DateAvailability.RankedDay> fromAggregatedCounts() {
+        DateAvailability availability = new DateAvailability(START, END);
+        aggregatedCounts.forEach(availability::exclude);
+        return availability.rank(3);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ktb.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크용 Google Places Nearby Search 응답 (강남역 주변 20개 장소)
+ */
+final class NearbyFixtures {
+    private static final String GANGNAM_20 = "/fixtures/nearby-search-gangnam-20.json";
+
+    private NearbyFixtures() {
+    }
+
+    static NearbySearchResponse gangnam20() {
+        ObjectMapper mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        try (InputStream in = NearbyFixtures.class.getResourceAsStream(GANGNAM_20)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + GANGNAM_20);
+            }
+            return mapper.readValue(in, NearbySearchResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
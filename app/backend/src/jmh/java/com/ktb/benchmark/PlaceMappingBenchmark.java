@@ -0,0 +1,74 @@
+package com.ktb.benchmark;
+
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import com.ktb.restaurant.google.mapper.PlaceSummaryMapper;
+import com.ktb.restaurant.google.rating.BayesianRatingCalculator;
+import com.ktb.restaurant.google.rating.RatingCalculator;
+import com.ktb.submission.dto.request.RestaurantCandidate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Nearby Search 응답 1건(20개 장소)을 처리하는 매핑 경로
+ * 실행: ./gradlew jmh  (처리량 + gc 프로파일러의 gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceMappingBenchmark {
+
+    private List<NearbySearchResponse.Place> places;
+    private List<PlaceSummaryDto> summaries;
+    private RatingCalculator ratingCalculator;
+    private PlaceSummaryMapper mapper;
+
+    @Setup
+    public void setUp() {
+        // RatingConfig와 같은 파라미터
+        ratingCalculator = new BayesianRatingCalculator(3.0, 100);
+        mapper = new PlaceSummaryMapper(ratingCalculator);
+        places = NearbyFixtures.gangnam20().places();
+        summaries = places.stream().map(mapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<PlaceSummaryDto> toDto() {
+        List<PlaceSummaryDto> result = new ArrayList<>(places.size());
+        for (NearbySearchResponse.Place place : places) {
+            result.add(mapper.toDto(place));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void calcRating(Blackhole bh) {
+        for (NearbySearchResponse.Place place : places) {
+            bh.consume(ratingCalculator.calcRating(place.rating(), place.userRatingCount()));
+        }
+    }
+
+    @Benchmark
+    public List<RestaurantCandidate> fromPlaceSummary() {
+        List<RestaurantCandidate> result = new ArrayList<>(summaries.size());
+        for (PlaceSummaryDto summary : summaries) {
+            result.add(RestaurantCandidate.fromPlaceSummary(summary));
+        }
+        return result;
+    }
+}
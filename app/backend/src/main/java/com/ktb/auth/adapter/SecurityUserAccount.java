@@ -2,9 +2,11 @@ package com.ktb.auth.adapter;
 
 import com.ktb.user.domain.UserIdentifier;
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
+import java.util.Collection;
 import java.util.List;
 
 @Getter
@@ -18,4 +20,9 @@ public class SecurityUserAccount extends User {
         );
         this.account = account;
     }
+
+    public SecurityUserAccount(UserIdentifier account, Collection<? extends GrantedAuthority> authorities) {
+        super(account.getUsername(), account.getPassword(), authorities);
+        this.account = account;
+    }
 }
\ No newline at end of file
@@ -25,6 +25,16 @@ public class JwtConfig {
     @DurationUnit(ChronoUnit.DAYS)
     private Duration refreshExpire;
 
+    // 서명 검증을 마친 토큰 캐시 크기 (토큰 만료 시각에 자동 제거)
+    private long verifiedTokenCacheSize = 10_000;
+
+    // true: 토큰 claim(username/nickname/roles)으로 principal 구성, DB 조회 생략
+    private boolean statelessPrincipal = true;
+
+    // claim이 없는 토큰 등 DB 조회가 필요한 경우의 사용자 캐시 유지 시간
+    private Duration principalCacheTtl = Duration.ofSeconds(30);
+    private long principalCacheSize = 10_000;
+
     public long getAccessExpireMillis() {
         return accessExpire.toMillis();
     }
@@ -56,7 +56,7 @@ public class AuthController {
 
         // 2. JWT 생성
         SecurityUserAccount userDetails = (SecurityUserAccount) auth.getPrincipal();
-        String jwt = jwtTokenProvider.generateToken(userDetails.getAccount().getId());
+        String jwt = jwtTokenProvider.generateToken(userDetails);
 
         // 3. 쿠키 설정
         jwtTokenProvider.addTokenCookie(httpResponse, jwt);
@@ -1,10 +1,12 @@
 package com.ktb.auth.filter;
 
 import com.ktb.auth.adapter.SecurityUserAccount;
+import com.ktb.auth.config.JwtConfig;
 import com.ktb.auth.config.SecurityProperties;
 import com.ktb.auth.service.CustomUserDetailService;
 import com.ktb.auth.util.JwtTokenProvider;
 import com.ktb.group.exception.AuthenticationException;
+import com.ktb.user.domain.UserIdentifier;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,11 +14,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -25,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final CustomUserDetailService userDetailsService;
     private final JwtTokenProvider jwtProvider;
     private final SecurityProperties securityProperties;
+    private final JwtConfig jwtConfig;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,7 +42,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtProvider.validateToken(token)) {
+        // 서명 검증은 토큰당 1회 (이후 요청은 검증 캐시 사용)
+        JwtTokenProvider.VerifiedToken verified = jwtProvider.verify(token).orElse(null);
+        if (verified == null) {
             SecurityContextHolder.clearContext();
             filterChain.doFilter(request, response);
 
@@ -45,7 +52,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            authenticateWithJwt(token);
+            authenticateWithJwt(verified);
         } catch (AuthenticationException e) {
             log.info("JWT authentication failed: {}", e.getMessage());
             SecurityContextHolder.clearContext();
@@ -54,10 +61,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateWithJwt(String jwt) {
-        Long userId = jwtProvider.getUserIdFromToken(jwt);
-
-        SecurityUserAccount userDetails = (SecurityUserAccount) userDetailsService.loadUserById(userId);
+    private void authenticateWithJwt(JwtTokenProvider.VerifiedToken verified) {
+        SecurityUserAccount userDetails = loadPrincipal(verified);
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
@@ -69,6 +74,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
+    private SecurityUserAccount loadPrincipal(JwtTokenProvider.VerifiedToken verified) {
+        // 토큰에 principal 스냅샷이 있으면 DB 조회 없이 구성
+        if (jwtConfig.isStatelessPrincipal() && verified.hasPrincipalSnapshot()) {
+            UserIdentifier account = UserIdentifier.snapshot(verified.userId(), verified.username(), verified.nickname());
+            List<SimpleGrantedAuthority> authorities = verified.roles().stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .toList();
+            return new SecurityUserAccount(account, authorities);
+        }
+
+        return (SecurityUserAccount) userDetailsService.loadUserById(verified.userId());
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         // public 경로 (permitAll + anonymous)는 JWT 필터를 거치지 않음
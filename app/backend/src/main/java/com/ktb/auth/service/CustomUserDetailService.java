@@ -1,24 +1,36 @@
 package com.ktb.auth.service;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ktb.auth.adapter.SecurityUserAccount;
+import com.ktb.auth.config.JwtConfig;
 import com.ktb.user.domain.UserIdentifier;
 import com.ktb.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CustomUserDetailService implements UserDetailsService {
     private final UserRepository userRepository;
 
+    // JWT 인증용 짧은 TTL 사용자 캐시 (claim 스냅샷이 없는 토큰의 요청마다 DB 조회 방지)
+    private final Cache<Long, UserIdentifier> usersById;
+
+    public CustomUserDetailService(UserRepository userRepository, JwtConfig jwtConfig) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .expireAfterWrite(jwtConfig.getPrincipalCacheTtl())
+                .maximumSize(jwtConfig.getPrincipalCacheSize())
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UserIdentifier userIdentifier = userRepository
@@ -29,11 +41,13 @@ public class CustomUserDetailService implements UserDetailsService {
 
     /**
      * userId로 사용자 조회 (JWT 인증 시 JwtAuthenticationFilter 호출)
+     * 캐시 적중 시 트랜잭션/커넥션 없이 반환
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDetails loadUserById(Long userId) {
-        UserIdentifier userIdentifier = userRepository
-                .findById(userId)
-                .orElseThrow();
+        UserIdentifier userIdentifier = usersById.get(userId, id -> userRepository
+                .findById(id)
+                .orElseThrow());
         return new SecurityUserAccount(userIdentifier);
     }
 }
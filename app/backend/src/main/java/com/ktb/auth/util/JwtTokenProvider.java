@@ -1,7 +1,14 @@
 package com.ktb.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ktb.auth.adapter.SecurityUserAccount;
 import com.ktb.auth.config.JwtConfig;
+import com.ktb.user.domain.UserIdentifier;
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,29 +19,74 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "jwt-verified-token";
+    private static final String CLAIM_USERNAME = "username";
+    private static final String CLAIM_NICKNAME = "nickname";
+    private static final String CLAIM_ROLES = "roles";
+
     private final JwtConfig cfg;
     private final ResourceLoader loader;
+    private final MeterRegistry meterRegistry;
     private PrivateKey privateKey;
     private PublicKey publicKey;
 
+    // 파서는 불변/스레드 안전하므로 한 번만 생성
+    private JwtParser parser;
+    // 토큰 SHA-256 → 검증 결과. 토큰 만료 시각에 제거되므로 토큰당 RSA 검증은 1회
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * 검증된 토큰 정보. username/nickname/roles는 principal 스냅샷 claim이 없는 토큰이면 null
+     */
+    public record VerifiedToken(Long userId, String username, String nickname, List<String> roles, Instant expiresAt) {
+        public boolean hasPrincipalSnapshot() {
+            return username != null && nickname != null && roles != null;
+        }
+    }
+
+    // 항목 수명 = 토큰 남은 유효 시간
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken verified, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     @PostConstruct
     void init() {
         try {
@@ -43,6 +95,16 @@ public class JwtTokenProvider {
         } catch (Exception e) {
             throw new IllegalStateException("Failed to load RSA keys", e);
         }
+
+        this.parser = Jwts.parser()
+                .verifyWith(publicKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cfg.getVerifiedTokenCacheSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKEN_CACHE_NAME);
     }
 
     private PrivateKey readPrivate(String location) throws Exception {
@@ -68,15 +130,34 @@ public class JwtTokenProvider {
 
     // ✅ JWT 생성 (userId)
     public String generateToken(Long userId) {
+        return tokenBuilder(userId)
+                .signWith(privateKey, Jwts.SIG.RS256)
+                .compact();
+    }
+
+    // ✅ JWT 생성 (userId + principal 스냅샷: 인증 시 DB 조회 생략용)
+    public String generateToken(SecurityUserAccount principal) {
+        UserIdentifier account = principal.getAccount();
+        List<String> roles = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        return tokenBuilder(account.getId())
+                .claim(CLAIM_USERNAME, account.getUsername())
+                .claim(CLAIM_NICKNAME, account.getNickname())
+                .claim(CLAIM_ROLES, roles)
+                .signWith(privateKey, Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private JwtBuilder tokenBuilder(Long userId) {
         Date now = new Date(System.currentTimeMillis());
         Date expireDate = new Date(now.getTime() + cfg.getAccessExpireMillis());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
                 .issuedAt(now)
-                .expiration(expireDate)
-                .signWith(privateKey, Jwts.SIG.RS256)
-                .compact();
+                .expiration(expireDate);
     }
 
     public void addTokenCookie(HttpServletResponse response, String token) {
@@ -103,16 +184,52 @@ public class JwtTokenProvider {
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
+    /**
+     * 서명/만료 검증. 이미 검증된 토큰은 캐시에서 바로 반환하고, 유효하지 않으면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = parse(token);
+        verified.ifPresent(v -> verifiedTokens.put(digest, v));
+        return verified;
+    }
+
     // ✅ JWT 유효성 검증
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    public Long getUserIdFromToken(String token) {
+        return verify(token)
+                .map(VerifiedToken::userId)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(publicKey)
-                    .build()
-                    .parseSignedClaims(token) // Throws if invalid
-                    .getPayload()
-                    .getExpiration()
-                    .after(new Date(System.currentTimeMillis()));
+            Claims claims = parser.parseSignedClaims(token) // Throws if invalid
+                    .getPayload();
+
+            Date expiration = claims.getExpiration();
+            if (expiration == null || !expiration.after(new Date(System.currentTimeMillis()))) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get(CLAIM_USERNAME, String.class),
+                    claims.get(CLAIM_NICKNAME, String.class),
+                    rolesOf(claims),
+                    expiration.toInstant()
+            ));
 
         } catch (SecurityException | MalformedJwtException e) {
             log.warn("Invalid JWT signature: {}", e.getMessage());
@@ -122,18 +239,28 @@ public class JwtTokenProvider {
             log.warn("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
         }
 
-        return false;
+        return Optional.empty();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(publicKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return Long.valueOf(claims.getSubject());
+    private static List<String> rolesOf(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof List<?> list)) {
+            return null;
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public Optional<String> extractTokenFromRequest(HttpServletRequest request) {
@@ -0,0 +1,56 @@
+package com.ktb.common.job;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.Getter;
+
+/**
+ * 대기열에서 실행되는 비동기 작업의 공통 상태 (PENDING → RUNNING → SUCCEEDED/FAILED)
+ * 상태 필드는 워커 스레드에서 쓰고 요청 스레드에서 읽으므로 volatile
+ *
+ * @param <T> 작업 결과 타입
+ * @param <J> 완료 시 구독자에게 넘겨줄 구체 작업 타입
+ */
+@Getter
+public abstract class AsyncJob<T, J extends AsyncJob<T, J>> {
+    private final String id;
+    private final Instant createdAt;
+
+    private volatile JobStatus status;
+    private volatile T result;
+    private volatile String errorMessage;
+    private volatile Instant completedAt;
+
+    // 폴링/SSE 구독자가 완료 시점을 기다리는 용도
+    private final CompletableFuture<J> completion = new CompletableFuture<>();
+
+    protected AsyncJob() {
+        this.id = UUID.randomUUID().toString();
+        this.createdAt = Instant.now();
+        this.status = JobStatus.PENDING;
+    }
+
+    public void markRunning() {
+        this.status = JobStatus.RUNNING;
+    }
+
+    public void succeed(T result) {
+        this.result = result;
+        this.completedAt = Instant.now();
+        this.status = JobStatus.SUCCEEDED;
+        completion.complete(self());
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.completedAt = Instant.now();
+        this.status = JobStatus.FAILED;
+        completion.complete(self());
+    }
+
+    @SuppressWarnings("unchecked")
+    private J self() {
+        return (J) this;
+    }
+}
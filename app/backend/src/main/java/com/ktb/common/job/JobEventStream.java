@@ -0,0 +1,43 @@
+package com.ktb.common.job;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 작업 상태 SSE 스트림
+ * 현재 상태를 "status" 이벤트로 보내고, 완료 시 "result" 이벤트를 보낸 뒤 스트림을 닫는다.
+ */
+@Slf4j
+public final class JobEventStream {
+
+    private JobEventStream() {
+    }
+
+    public static <J extends AsyncJob<?, J>> SseEmitter open(J job, Duration timeout, Function<J, ?> toResponse) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        if (!job.getStatus().isDone()) {
+            send(emitter, "status", job, toResponse);
+        }
+        job.getCompletion().thenAccept(done -> {
+            send(emitter, "result", done, toResponse);
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    private static <J extends AsyncJob<?, J>> void send(SseEmitter emitter, String eventName, J job, Function<J, ?> toResponse) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .id(job.getId())
+                    .data(toResponse.apply(job)));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우
+            log.debug("[Job] SSE send failed for job {}: {}", job.getId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb.common.job;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 대기열 실행기 생성. 큐가 가득 차면 TaskRejectedException (AbortPolicy)
+ */
+public final class JobExecutors {
+
+    private JobExecutors() {
+    }
+
+    public static ThreadPoolTaskExecutor bounded(
+            String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity, boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // 가상 스레드 모드에서도 동시 실행 수/대기열 상한은 그대로 유지 (외부 서버 보호)
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
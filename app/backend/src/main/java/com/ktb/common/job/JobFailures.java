@@ -0,0 +1,21 @@
+package com.ktb.common.job;
+
+import java.util.Arrays;
+
+/**
+ * 작업 실패 시 클라이언트에 보여줄 메시지
+ * 작업 조회/SSE는 인증 없이 열려 있으므로 외부 서버 응답 본문, 호스트, DB 오류가 섞일 수 있는
+ * 일반 예외 메시지는 로그에만 남기고, 앱이 클라이언트용으로 만든 예외의 메시지만 그대로 전달한다.
+ */
+public final class JobFailures {
+
+    private JobFailures() {
+    }
+
+    @SafeVarargs
+    public static String clientMessage(Throwable error, String fallback, Class<? extends Throwable>... exposed) {
+        boolean clientFacing = Arrays.stream(exposed).anyMatch(type -> type.isInstance(error));
+        String message = error.getMessage();
+        return (clientFacing && message != null && !message.isBlank()) ? message : fallback;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ktb.common.job;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 작업 보관/SSE 공통 설정. 도메인별 @ConfigurationProperties 클래스가 상속한다.
+ */
+@Getter
+@Setter
+public abstract class JobProperties {
+    // 대기열이 가득 차면 새 작업은 503으로 거절
+    private int queueCapacity = 100;
+
+    // 완료된 작업 결과를 조회할 수 있는 시간 (진행 중인 작업은 만료되지 않음)
+    private Duration retention = Duration.ofMinutes(30);
+    // 보관하는 완료 작업 수 상한
+    private long maximumJobs = 1_000;
+
+    // SSE 구독 최대 유지 시간
+    private Duration sseTimeout = Duration.ofMinutes(2);
+}
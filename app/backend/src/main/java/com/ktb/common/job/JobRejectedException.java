@@ -0,0 +1,22 @@
+package com.ktb.common.job;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JobRejectedException extends RuntimeException {
+    // Retry-After 헤더로 알려줄 대기 시간 (없으면 null)
+    private final Duration retryAfter;
+
+    public JobRejectedException(String message) {
+        this(message, null);
+    }
+
+    public JobRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ktb.common.job;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * jobId → 작업 저장소
+ * 진행 중인 작업은 만료/축출 대상이 아니고, 완료된 작업만 maximumJobs 안에서 retention 동안 조회 가능하다.
+ */
+public class JobStore<J extends AsyncJob<?, J>> {
+    private final Cache<String, J> jobs;
+
+    public JobStore(Duration retention, long maximumJobs) {
+        // 진행 중인 작업은 무게 0 → maximumJobs는 완료된 작업만 센다
+        this.jobs = Caffeine.newBuilder()
+                .maximumWeight(maximumJobs)
+                .weigher((String id, J job) -> job.getStatus().isDone() ? 1 : 0)
+                .expireAfter(retainAfterCompletion(retention.toNanos()))
+                .build();
+    }
+
+    public void put(J job) {
+        jobs.put(job.getId(), job);
+        // 완료되면 다시 넣어 무게와 만료 시간을 재계산한다 (그 사이 제거된 작업은 되살리지 않음)
+        job.getCompletion().thenAccept(done -> jobs.asMap().replace(done.getId(), done));
+    }
+
+    public Optional<J> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    public void remove(String jobId) {
+        jobs.invalidate(jobId);
+    }
+
+    /**
+     * 진행 중인 작업은 만료되지 않고, 완료된 작업은 (완료 후 다시 넣은 시점부터) retention 동안 유지
+     */
+    private static <J extends AsyncJob<?, J>> Expiry<String, J> retainAfterCompletion(long retentionNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String id, J job, long currentTime) {
+                return job.getStatus().isDone() ? retentionNanos : Long.MAX_VALUE;
+            }
+
+            @Override
+            public long expireAfterUpdate(String id, J job, long currentTime, long currentDuration) {
+                return expireAfterCreate(id, job, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String id, J job, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.ktb.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 서버 호출용 HTTP 클라이언트 (upstream별 이름 있는 커넥션 풀)
+ * - places, llm: Reactor Netty 풀 (reactor.netty.connection.provider.* 지표)
+ * - ocr: Apache HttpClient 5 풀 (http.client.pool.* 지표)
+ * WebClient.Builder는 Spring Boot 자동 구성(공용 ObjectMapper, http.client.requests 관측)을 그대로 사용
+ */
+@Configuration
+public class OutboundHttpClientConfig {
+
+    @Bean(name = "placesWebClient")
+    public WebClient placesWebClient(WebClient.Builder builder, OutboundHttpProperties properties) {
+        return webClient(builder, "places", properties.getPlaces());
+    }
+
+    @Bean(name = "llmWebClient")
+    public WebClient llmWebClient(WebClient.Builder builder, OutboundHttpProperties properties) {
+        return webClient(builder, "llm", properties.getLlm());
+    }
+
+    @Bean(name = "ocrRestTemplate")
+    public RestTemplate ocrRestTemplate(
+            RestTemplateBuilder builder,
+            OutboundHttpProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        OutboundHttpProperties.Upstream ocr = properties.getOcr();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(ocr.getMaxConnections())
+                .setMaxConnPerRoute(ocr.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(ocr.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(ocr.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(ocr.getMaxLifeTime()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(ocr.getPendingAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(ocr.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(ocr.getMaxIdleTime()))
+                .build();
+
+        registerPoolGauges(meterRegistry, "ocr", connectionManager);
+
+        // 요청 본문은 버퍼링 없이 스트리밍 (ImageForwardingService)
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    private static WebClient webClient(WebClient.Builder builder, String name, OutboundHttpProperties.Upstream upstream) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(upstream.getMaxConnections())
+                .pendingAcquireMaxCount(upstream.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(upstream.getPendingAcquireTimeout())
+                .maxIdleTime(upstream.getMaxIdleTime())
+                .maxLifeTime(upstream.getMaxLifeTime())
+                .evictInBackground(upstream.getMaxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) upstream.getConnectTimeout().toMillis())
+                .responseTimeout(upstream.getReadTimeout())
+                .keepAlive(true)
+                // URI별 지표 (고정 경로만 호출하므로 cardinality 문제 없음)
+                .metrics(true, Function.identity());
+        if (upstream.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return builder.clone()
+                .baseUrl(upstream.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private static void registerPoolGauges(
+            MeterRegistry meterRegistry,
+            String name,
+            PoolingHttpClientConnectionManager connectionManager
+    ) {
+        gauge(meterRegistry, "http.client.pool.leased", name, connectionManager, PoolStats::getLeased);
+        gauge(meterRegistry, "http.client.pool.available", name, connectionManager, PoolStats::getAvailable);
+        gauge(meterRegistry, "http.client.pool.pending", name, connectionManager, PoolStats::getPending);
+        gauge(meterRegistry, "http.client.pool.max", name, connectionManager, PoolStats::getMax);
+    }
+
+    private static void gauge(
+            MeterRegistry meterRegistry,
+            String metric,
+            String name,
+            PoolingHttpClientConnectionManager connectionManager,
+            ToDoubleFunction<PoolStats> value
+    ) {
+        Gauge.builder(metric, connectionManager, cm -> value.applyAsDouble(cm.getTotalStats()))
+                .tag("pool", name)
+                .register(meterRegistry);
+    }
+}
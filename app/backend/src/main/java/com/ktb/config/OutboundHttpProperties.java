@@ -0,0 +1,49 @@
+package com.ktb.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 서버(upstream)별 커넥션 풀/타임아웃 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+    private Upstream places = new Upstream("https://places.googleapis.com/v1", 50, Duration.ofSeconds(10), true);
+    private Upstream llm = new Upstream("http://3.236.242.98:8000", 20, Duration.ofSeconds(90), false);
+    // OCR 서버 URL은 target.image.server.url 사용
+    private Upstream ocr = new Upstream(null, 20, Duration.ofSeconds(30), false);
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        private String baseUrl;
+        // 풀 최대 커넥션 수 / 커넥션 대기 요청 상한과 대기 시간
+        private int maxConnections;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        // 응답(읽기) 타임아웃
+        private Duration readTimeout;
+        // keep-alive 커넥션 재사용 기간 (서버/LB의 idle timeout보다 짧게)
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        // TLS(ALPN)로 HTTP/2 협상, 실패 시 HTTP/1.1
+        private boolean http2;
+
+        public Upstream() {
+        }
+
+        Upstream(String baseUrl, int maxConnections, Duration readTimeout, boolean http2) {
+            this.baseUrl = baseUrl;
+            this.maxConnections = maxConnections;
+            this.readTimeout = readTimeout;
+            this.http2 = http2;
+        }
+    }
+}
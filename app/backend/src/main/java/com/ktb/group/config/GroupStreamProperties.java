@@ -0,0 +1,25 @@
+package com.ktb.group.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "group.stream")
+public class GroupStreamProperties {
+    // 그룹당 동시 구독자 상한 (초과 시 429, 클라이언트는 폴링으로 대체)
+    private int maxSubscribersPerGroup = 50;
+
+    // 프록시/로드밸런서 idle timeout보다 짧게
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // SSE 구독 최대 유지 시간 (만료 후 클라이언트가 재연결)
+    private Duration sseTimeout = Duration.ofMinutes(30);
+
+    // 전송/heartbeat 스레드 수 (한 클라이언트가 멈춰도 다른 그룹 전송은 나머지 스레드로 진행)
+    private int senderPoolSize = 4;
+}
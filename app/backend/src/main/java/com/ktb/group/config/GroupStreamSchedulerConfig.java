@@ -0,0 +1,24 @@
+package com.ktb.group.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class GroupStreamSchedulerConfig {
+
+    /**
+     * 집계 SSE 전송/heartbeat 전용 스케줄러.
+     * 전송은 그룹 단위 작업이라 느린 클라이언트는 자기 그룹을 맡은 스레드만 붙잡는다.
+     * 같은 그룹의 순서는 GroupAggregationBroadcaster가 유지하고, 제출 요청 스레드는 전송을 기다리지 않는다.
+     */
+    @Bean(name = "groupStreamScheduler")
+    public ThreadPoolTaskScheduler groupStreamScheduler(GroupStreamProperties properties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getSenderPoolSize());
+        scheduler.setThreadNamePrefix("group-stream-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
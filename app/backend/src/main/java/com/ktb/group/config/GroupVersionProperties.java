@@ -0,0 +1,15 @@
+package com.ktb.group.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "group.version")
+public class GroupVersionProperties {
+    // 버전을 기억할 최대 그룹 수 (밀려난 그룹은 다음 조회 때 새 버전 발급 → 한 번 200)
+    private long maximumSize = 10_000;
+}
@@ -6,6 +6,8 @@ import com.ktb.group.dto.request.CreateGroupRequest;
 import com.ktb.group.dto.response.CreateGroupIdResponse;
 import com.ktb.group.dto.response.GroupMeta;
 import com.ktb.group.service.GroupService;
+import com.ktb.group.stream.GroupAggregationBroadcaster;
+import com.ktb.group.version.GroupVersionRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +19,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +29,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Group", description = "그룹 관리 API")
 @RestController
@@ -33,6 +38,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class GroupController {
     private final GroupService groupService;
+    private final GroupAggregationBroadcaster aggregationBroadcaster;
+    private final GroupVersionRegistry groupVersionRegistry;
 
     @Operation(summary = "모임 그룹을 생성", description = "모임 그룹을 생성합니다.")
     @ApiResponses({
@@ -54,35 +61,64 @@ public class GroupController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = TempAggregation.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같음 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음")
     })
     @GetMapping("/{groupId}")
     public ResponseEntity<GroupMeta> getGroupInfo(
             @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId,
-            @AuthenticationPrincipal SecurityUserAccount principal
+            @AuthenticationPrincipal SecurityUserAccount principal,
+            WebRequest webRequest
     ) {
         Long requestUserId = 0L;
         if (principal != null && principal.getAccount() != null) {
             requestUserId = principal.getAccount().getId();
         }
+        // 총무 여부가 요청 사용자마다 다르므로 사용자 ID도 ETag에 포함
+        String etag = etag(groupId, "info-" + requestUserId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         GroupMeta metaInfo = groupService.getGroupInfo(requestUserId, groupId);
 
-        return ResponseEntity.ok(metaInfo);
+        return ResponseEntity.ok().eTag(etag).body(metaInfo);
     }
 
     @Operation(summary = "그룹 집계 조회", description = "그룹의 제출 현황을 조회합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = TempAggregation.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같음 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음")
     })
     @GetMapping("/{groupId}/{ownerId}/aggregation")
     public ResponseEntity<TempAggregation> getAggregation(
             @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId,
-            @Parameter(description = "그룹 오너 ID", required = true) @PathVariable Long ownerId
+            @Parameter(description = "그룹 오너 ID", required = true) @PathVariable Long ownerId,
+            WebRequest webRequest
     ) {
+        String etag = etag(groupId, "aggregation-" + ownerId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         TempAggregation aggregation = groupService.getAggregation(groupId, ownerId);
-        return ResponseEntity.ok().body(aggregation);
+        return ResponseEntity.ok().eTag(etag).body(aggregation);
+    }
+
+    @Operation(summary = "그룹 집계 구독 (SSE)", description = "현재 제출 현황을 aggregation 이벤트로 보내고, 멤버가 제출할 때마다 갱신된 현황을 보냅니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 시작"),
+            @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "그룹 구독자 수 초과 (집계 조회 API로 대체)")
+    })
+    @GetMapping(value = "/{groupId}/{ownerId}/aggregation/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeAggregation(
+            @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId,
+            @Parameter(description = "그룹 오너 ID", required = true) @PathVariable Long ownerId
+    ) {
+        // 구독 등록 후 스냅샷을 읽어야 그 사이에 커밋된 제출을 놓치지 않는다
+        return ResponseEntity.ok(aggregationBroadcaster.subscribe(groupId,
+                () -> groupService.getAggregation(groupId, ownerId)));
     }
 
     @Operation(summary = "초대 URL 생성", description = "그룹 초대 URL을 생성하고 리다이렉트합니다")
@@ -104,4 +140,11 @@ public class GroupController {
                 .header(HttpHeaders.LOCATION, inviteUrl)
                 .build();
     }
+
+    /**
+     * 그룹 버전 기반 strong ETag (그룹을 조회하지 않고 메모리 버전만 사용)
+     */
+    private String etag(Long groupId, String view) {
+        return "\"" + groupId + "-" + view + "-" + groupVersionRegistry.currentVersion(groupId) + "\"";
+    }
 }
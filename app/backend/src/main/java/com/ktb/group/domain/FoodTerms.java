@@ -0,0 +1,48 @@
+package com.ktb.group.domain;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 멤버가 입력한 음식 목록("치킨, 피자")을 정규화된 키워드로 변환
+ */
+public final class FoodTerms {
+
+    private FoodTerms() {
+    }
+
+    /**
+     * 한 멤버의 입력을 키워드 집합으로 변환 (쉼표 구분, 공백/빈 값 제거, 소문자, 중복 제거)
+     */
+    public static Set<String> parse(String memberInput) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (memberInput == null) {
+            return terms;
+        }
+        for (String term : memberInput.split(",")) {
+            String normalized = term.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.isEmpty()) {
+                terms.add(normalized);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 멤버별 입력 목록 → 키워드별 입력한 멤버 수
+     */
+    public static Map<String, Integer> frequencies(Collection<String> memberInputs) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        if (memberInputs == null) {
+            return frequencies;
+        }
+        for (String input : memberInputs) {
+            parse(input).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        }
+        return frequencies;
+    }
+}
@@ -15,7 +15,6 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +49,10 @@ public class Group {
     @OneToMany(mappedBy = "group", fetch = FetchType.LAZY)
     private List<GroupMember> members = new ArrayList<>();
 
+    // 참여(제출)한 멤버 수. 정원 검사는 조건부 UPDATE로 하고 members 컬렉션은 읽지 않는다 (GroupRepository.incrementMemberCount)
+    @Column(name = "member_count", nullable = false, columnDefinition = "integer default 0")
+    private int memberCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private UserIdentifier owner;
 
@@ -66,19 +69,24 @@ public class Group {
     @Column(name = "end_date")
     private Date endDate;
 
-    public void submitMember(UserIdentifier user) {
-        if (members.size() >= maxCapacity) {
-            throw new FullJoinMemberException();
+    public void validateAllSubmitted() {
+        if (memberCount != maxCapacity) {
+            throw new GroupSubmissionNotCompletedException();
         }
+    }
 
-        GroupMember groupMember = GroupMember.createMember(this, user);
-        members.add(groupMember);
+    public int remainingCapacity() {
+        return Math.max(0, maxCapacity - memberCount);
     }
 
-    public void validateAllSubmitted() {
-        if (members.size() != maxCapacity) {
-            throw new GroupSubmissionNotCompletedException();
+    /**
+     * 여러 명을 한 번에 참여 처리 (일괄 가져오기). 호출 전에 그룹 행을 잠그고 remainingCapacity로 인원을 정해야 한다.
+     */
+    public void joinMembers(int count) {
+        if (count > remainingCapacity()) {
+            throw new FullJoinMemberException();
         }
+        memberCount += count;
     }
 
     public Set<UserIdentifier> getSubmitMembers() {
@@ -98,7 +106,8 @@ public class Group {
     ) {
         return new Group(null,
                 (maxCapacity == null) ? 0 : maxCapacity,
-                Collections.emptyList(),
+                new ArrayList<>(),
+                0,
                 owner,
                 (budget == null) ? 0: budget,
                 (station == null || station.isEmpty()) ? "" : station,
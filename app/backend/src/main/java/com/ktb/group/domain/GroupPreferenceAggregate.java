@@ -0,0 +1,103 @@
+package com.ktb.group.domain;
+
+import com.ktb.group.domain.converter.LocalDateCountConverter;
+import com.ktb.group.domain.converter.StringListConverter;
+import com.ktb.group.domain.converter.TermFrequencyConverter;
+import com.ktb.submission.domain.ExcludedDateSet;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹별 제출 집계 (read model)
+ * 제출마다 같은 트랜잭션에서 갱신하므로, 통합 제출/집계 조회는 제출 N건 대신 이 행 하나만 읽는다.
+ * 컬렉션은 JSON 컬럼으로 저장하고, 변경 시 새 컬렉션으로 교체해 dirty checking이 확실히 동작하게 한다.
+ */
+@Entity
+@Getter
+@Table(name = "group_preference_aggregate")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupPreferenceAggregate {
+    @Id
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "submission_count", nullable = false)
+    private int submissionCount;
+
+    // 키워드 → 해당 키워드를 입력한 멤버 수
+    @Convert(converter = TermFrequencyConverter.class)
+    @Column(name = "liked_terms", columnDefinition = "text")
+    private Map<String, Integer> likedTerms = new HashMap<>();
+
+    @Convert(converter = TermFrequencyConverter.class)
+    @Column(name = "avoided_terms", columnDefinition = "text")
+    private Map<String, Integer> avoidedTerms = new HashMap<>();
+
+    @Convert(converter = TermFrequencyConverter.class)
+    @Column(name = "forbidden_terms", columnDefinition = "text")
+    private Map<String, Integer> forbiddenTerms = new HashMap<>();
+
+    // 날짜 → 그 날짜를 불가능하다고 제출한 멤버 수 (날짜 추천에서 충돌 수로 사용)
+    @Convert(converter = LocalDateCountConverter.class)
+    @Column(name = "excluded_date_counts", columnDefinition = "text")
+    private TreeMap<LocalDate, Integer> excludedDateCounts = new TreeMap<>();
+
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "submitter_nicknames", columnDefinition = "text")
+    private List<String> submitterNicknames = new ArrayList<>();
+
+    public static GroupPreferenceAggregate create(Long groupId) {
+        GroupPreferenceAggregate aggregate = new GroupPreferenceAggregate();
+        aggregate.groupId = groupId;
+        return aggregate;
+    }
+
+    public void add(
+            String nickname,
+            String preferredFoods,
+            String avoidedFoods,
+            String excludedFoods,
+            Collection<Date> excludedDates
+    ) {
+        this.submissionCount++;
+        this.likedTerms = merge(this.likedTerms, preferredFoods);
+        this.avoidedTerms = merge(this.avoidedTerms, avoidedFoods);
+        this.forbiddenTerms = merge(this.forbiddenTerms, excludedFoods);
+
+        if (excludedDates != null && !excludedDates.isEmpty()) {
+            TreeMap<LocalDate, Integer> counts = new TreeMap<>(this.excludedDateCounts);
+            // 한 멤버가 같은 날짜를 여러 번 보내도 1명으로 센다
+            excludedDates.stream()
+                    .filter(Objects::nonNull)
+                    .map(ExcludedDateSet::toLocalDate)
+                    .distinct()
+                    .forEach(date -> counts.merge(date, 1, Integer::sum));
+            this.excludedDateCounts = counts;
+        }
+
+        List<String> nicknames = new ArrayList<>(this.submitterNicknames);
+        nicknames.add(nickname);
+        this.submitterNicknames = nicknames;
+    }
+
+    private static Map<String, Integer> merge(Map<String, Integer> frequencies, String memberInput) {
+        Map<String, Integer> merged = new HashMap<>(frequencies);
+        FoodTerms.parse(memberInput).forEach(term -> merged.merge(term, 1, Integer::sum));
+        return merged;
+    }
+}
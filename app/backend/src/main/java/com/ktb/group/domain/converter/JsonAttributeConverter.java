@@ -0,0 +1,46 @@
+package com.ktb.group.domain.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * 집계 컬렉션을 JSON 문자열 한 컬럼으로 저장 (집계 조회를 행 1개로 끝내기 위함)
+ */
+public abstract class JsonAttributeConverter<T> implements AttributeConverter<T, String> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final TypeReference<T> type;
+
+    protected JsonAttributeConverter(TypeReference<T> type) {
+        this.type = type;
+    }
+
+    protected abstract T empty();
+
+    @Override
+    public String convertToDatabaseColumn(T attribute) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(attribute == null ? empty() : attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize aggregate column", e);
+        }
+    }
+
+    @Override
+    public T convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return empty();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(dbData, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize aggregate column", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.group.domain.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.Converter;
+import java.time.LocalDate;
+import java.util.TreeMap;
+
+@Converter
+public class LocalDateCountConverter extends JsonAttributeConverter<TreeMap<LocalDate, Integer>> {
+    public LocalDateCountConverter() {
+        super(new TypeReference<>() {
+        });
+    }
+
+    @Override
+    protected TreeMap<LocalDate, Integer> empty() {
+        return new TreeMap<>();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.group.domain.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.Converter;
+import java.util.HashMap;
+import java.util.Map;
+
+@Converter
+public class TermFrequencyConverter extends JsonAttributeConverter<Map<String, Integer>> {
+    public TermFrequencyConverter() {
+        super(new TypeReference<>() {
+        });
+    }
+
+    @Override
+    protected Map<String, Integer> empty() {
+        return new HashMap<>();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ktb.group.dto;
+
+import java.util.List;
+
+/**
+ * 그룹 집계 조회용 projection (엔티티를 영속성 컨텍스트에 올리지 않음)
+ * 집계 행이 없는 그룹(집계 도입 전 생성)은 submitCount/nicknames가 null
+ */
+public record AggregationView(
+        Integer submitCount,
+        int maxCapacity,
+        List<String> nicknames
+) {
+    public boolean hasAggregate() {
+        return submitCount != null;
+    }
+}
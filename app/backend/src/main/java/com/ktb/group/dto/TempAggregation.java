@@ -1,8 +1,6 @@
 package com.ktb.group.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ktb.group.domain.Group;
-import com.ktb.user.domain.UserIdentifier;
 import java.util.List;
 
 public record TempAggregation(
@@ -13,12 +11,7 @@ public record TempAggregation(
         @JsonProperty("user_nickname_list")
         List<String> userList
 ) {
-    public static TempAggregation from(Group group) {
-        List<String> userList =
-                group.getSubmitMembers()
-                        .stream()
-                        .map(UserIdentifier::getNickname)
-                        .toList();
-        return new TempAggregation(group.getSubmitMembers().size(), group.getMaxCapacity(), userList);
+    public static TempAggregation of(AggregationView view) {
+        return new TempAggregation(view.submitCount(), view.maxCapacity(), view.nicknames());
     }
 }
@@ -0,0 +1,7 @@
+package com.ktb.group.event;
+
+/**
+ * 그룹 생성/참여처럼 그룹 조회 응답이 바뀌는 쓰기 (리스너는 커밋 이후에 실행)
+ */
+public record GroupChangedEvent(Long groupId) {
+}
@@ -0,0 +1,14 @@
+package com.ktb.group.event;
+
+import java.util.List;
+
+/**
+ * 멤버 제출이 저장될 때 발행 (리스너는 커밋 이후에 실행)
+ * 제출 시점의 그룹 집계 상태를 담으므로 구독자에게 DB 조회 없이 전달할 수 있다.
+ */
+public record GroupSubmissionCommittedEvent(
+        Long groupId,
+        int submitCount,
+        List<String> nicknames
+) {
+}
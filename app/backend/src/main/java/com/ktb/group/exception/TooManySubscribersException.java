@@ -0,0 +1,15 @@
+package com.ktb.group.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManySubscribersException extends RuntimeException {
+    public TooManySubscribersException() {
+        super();
+    }
+
+    public TooManySubscribersException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ktb.group.repository;
+
+import com.ktb.group.domain.GroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
+    long countByGroupId(Long groupId);
+}
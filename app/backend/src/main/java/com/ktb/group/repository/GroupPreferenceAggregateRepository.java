@@ -0,0 +1,16 @@
+package com.ktb.group.repository;
+
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GroupPreferenceAggregateRepository extends JpaRepository<GroupPreferenceAggregate, Long> {
+    // 동시 제출 시 집계 갱신이 유실되지 않도록 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM GroupPreferenceAggregate a WHERE a.groupId = :groupId")
+    Optional<GroupPreferenceAggregate> findByIdForUpdate(@Param("groupId") Long groupId);
+}
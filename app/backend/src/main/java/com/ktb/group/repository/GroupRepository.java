@@ -1,12 +1,31 @@
 package com.ktb.group.repository;
 
 import com.ktb.group.domain.Group;
+import com.ktb.group.dto.AggregationView;
+import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
+    /**
+     * 정원 미만일 때만 member_count를 1 증가 (반영된 행 수 반환, 0이면 정원 초과 또는 없는 그룹)
+     * UPDATE가 그룹 행을 잠그므로 동시 참여도 정원을 넘지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount + 1 " +
+           "WHERE g.id = :groupId AND g.memberCount < g.maxCapacity")
+    int incrementMemberCount(@Param("groupId") Long groupId);
+
+    // 일괄 가져오기: 남은 정원을 한 번 계산하는 동안 개별 참여(incrementMemberCount)를 막는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Group g WHERE g.id = :groupId")
+    Optional<Group> findByIdForUpdate(@Param("groupId") Long groupId);
+
     Optional<Group> findByIdAndMembers_User_IdAndMembers_IsOwner(Long groupId, Long ownerId, boolean isOwner);
 
     @Query("SELECT g FROM Group g " +
@@ -14,4 +33,16 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
            "JOIN FETCH m.user " +
            "WHERE g.id = :groupId AND m.user.id = :ownerId AND m.isOwner = true")
     Optional<Group> findByIdAndOwnerIdWithMembers(@Param("groupId") Long groupId, @Param("ownerId") Long ownerId);
+
+    /**
+     * 집계 조회 (쿼리 1회): 정원 + 집계 행의 제출 수/닉네임만 DTO로 조회, owner는 FK 컬럼으로 비교
+     */
+    @Query("SELECT new com.ktb.group.dto.AggregationView(a.submissionCount, g.maxCapacity, a.submitterNicknames) " +
+           "FROM Group g LEFT JOIN GroupPreferenceAggregate a ON a.groupId = g.id " +
+           "WHERE g.id = :groupId AND g.owner.id = :ownerId")
+    Optional<AggregationView> findAggregationView(@Param("groupId") Long groupId, @Param("ownerId") Long ownerId);
+
+    // 집계 행이 없는 그룹용: 제출한 멤버 닉네임만 조회
+    @Query("SELECT u.nickname FROM GroupMember m JOIN m.user u WHERE m.group.id = :groupId")
+    List<String> findMemberNicknames(@Param("groupId") Long groupId);
 }
@@ -1,17 +1,24 @@
 package com.ktb.group.service;
 
 import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupMember;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.dto.AggregationView;
 import com.ktb.group.dto.GroupFinalMeta;
 import com.ktb.group.dto.TempAggregation;
 import com.ktb.group.dto.request.CreateGroupRequest;
 import com.ktb.group.dto.response.GroupMeta;
+import com.ktb.group.event.GroupChangedEvent;
+import com.ktb.group.exception.FullJoinMemberException;
 import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.group.repository.GroupMemberRepository;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
 import com.ktb.group.repository.GroupRepository;
 import com.ktb.user.repository.UserRepository;
 import com.ktb.user.domain.UserIdentifier;
-import jakarta.persistence.LockModeType;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,29 +26,44 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GroupService {
     private final GroupRepository groupRepository;
+    private final GroupPreferenceAggregateRepository aggregateRepository;
+    private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
-    @Lock(value = LockModeType.PESSIMISTIC_READ)
     public TempAggregation getAggregation(Long groupId, Long ownerId) {
-        Group aggregation =
-                groupRepository.findByIdAndOwnerIdWithMembers(groupId, ownerId)
-                        .orElseThrow(NonExistGroupException::new);
-
-        return TempAggregation.from(aggregation);
+        // 멤버를 기다리며 폴링되는 엔드포인트: 엔티티 로딩 없이 projection 쿼리 1회
+        AggregationView view = groupRepository.findAggregationView(groupId, ownerId)
+                .orElseThrow(NonExistGroupException::new);
+
+        if (view.hasAggregate()) {
+            return TempAggregation.of(view);
+        }
+        // 집계 도입 전 생성된 그룹은 멤버 닉네임 조회로 대체
+        List<String> nicknames = groupRepository.findMemberNicknames(groupId);
+        return new TempAggregation(nicknames.size(), view.maxCapacity(), nicknames);
     }
 
+    /**
+     * 그룹 참여: 정원 검사 + member_count 증가를 조건부 UPDATE 한 번으로 처리하고
+     * 같은 트랜잭션에서 group_member를 추가한다 (members 컬렉션/사용자를 조회하지 않음).
+     */
     @Transactional
-    @Lock(value = LockModeType.PESSIMISTIC_WRITE)
-    public void submitMember(Long groupId, Long ownerId, String userNickname) {
-        Group aggregation =
-                groupRepository.findByIdAndMembers_User_IdAndMembers_IsOwner(groupId, ownerId, true)
-                        .orElseThrow(NonExistGroupException::new);
-
-        UserIdentifier submitUser = userRepository.findByNickname(userNickname)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userNickname));
-
-        aggregation.submitMember(submitUser);
+    public void submitMember(Long groupId, Long userId) {
+        if (groupRepository.incrementMemberCount(groupId) == 0) {
+            if (!groupRepository.existsById(groupId)) {
+                throw new NonExistGroupException();
+            }
+            throw new FullJoinMemberException();
+        }
+
+        groupMemberRepository.save(GroupMember.createMember(
+                groupRepository.getReferenceById(groupId),
+                userRepository.getReferenceById(userId)
+        ));
+
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId));
     }
 
     public String buildGroupInviteUrl(String baseUrl, Long groupId, Long ownerId) {
@@ -49,7 +71,6 @@ public class GroupService {
     }
 
     @Transactional(readOnly = true)
-    @Lock(value = LockModeType.PESSIMISTIC_READ)
     public GroupFinalMeta getGroupCompletionMeta(Long groupId, Long ownerId) {
         Group group =
                 groupRepository.findByIdAndMembers_User_IdAndMembers_IsOwner(groupId, ownerId, true)
@@ -60,6 +81,7 @@ public class GroupService {
         return GroupFinalMeta.from(group);
     }
 
+    @Transactional
     public Long createGroup(CreateGroupRequest groupRequest, Long ownerId) {
         UserIdentifier user = userRepository.findById(ownerId).orElseThrow();
         //Long ownerId, Integer maxCapacity, String station, Integer budget
@@ -73,7 +95,11 @@ public class GroupService {
                 groupRequest.endDate()
         );
 
-        return groupRepository.save(group).getId();
+        Long groupId = groupRepository.save(group).getId();
+        aggregateRepository.save(GroupPreferenceAggregate.create(groupId));
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId));
+
+        return groupId;
     }
 
     public GroupMeta getGroupInfo(Long requestUserId, Long groupId) {
@@ -0,0 +1,253 @@
+package com.ktb.group.stream;
+
+import com.ktb.group.config.GroupStreamProperties;
+import com.ktb.group.dto.TempAggregation;
+import com.ktb.group.event.GroupSubmissionCommittedEvent;
+import com.ktb.group.exception.TooManySubscribersException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 그룹별 제출 현황 SSE 구독 관리 (인스턴스 내 fan-out)
+ * 제출이 커밋되면 이벤트에 담긴 집계로 구독자 전원에게 TempAggregation을 보내므로,
+ * 구독자 수와 무관하게 DB는 제출 1건당 쓰기 1번만 처리한다.
+ * 전송은 그룹 단위 작업으로 스케줄러 풀에 나눠 맡겨 느린 클라이언트가 다른 그룹의 전송을 막지 않고,
+ * 한 그룹은 한 번에 한 스레드만 보내면서(draining) 가장 최신 집계만 순서대로 보낸다.
+ * 구독자마다 마지막으로 보낸 제출 수를 기억해 더 작은 제출 수는 다시 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class GroupAggregationBroadcaster {
+    private static final String AGGREGATION_EVENT = "aggregation";
+    private static final String REJECTED_MESSAGE = "구독자가 너무 많습니다. 집계 조회 API를 이용해 주세요.";
+
+    private final GroupStreamProperties properties;
+    private final TaskScheduler scheduler;
+    private final Counter rejected;
+
+    // groupId → 구독 채널 (구독자가 없으면 제거)
+    private final ConcurrentMap<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public GroupAggregationBroadcaster(
+            GroupStreamProperties properties,
+            @Qualifier("groupStreamScheduler") TaskScheduler scheduler,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.scheduler = scheduler;
+
+        // group.stream.subscribers, group.stream.rejected
+        Gauge.builder("group.stream.subscribers", this, GroupAggregationBroadcaster::totalSubscribers)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("group.stream.rejected")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        scheduler.scheduleAtFixedRate(this::heartbeat, properties.getHeartbeatInterval());
+    }
+
+    /**
+     * 현재 집계를 첫 이벤트로 보내고 이후 제출마다 갱신된 집계를 보낸다.
+     * 구독을 먼저 등록한 뒤 스냅샷을 읽으므로 그 사이에 커밋된 제출도 놓치지 않고,
+     * 스냅샷도 제출 이벤트와 같은 경로(pending → drain)로 보내 더 최신 집계 뒤에 도착하지 않는다.
+     *
+     * @param snapshotLoader 구독 시점의 집계 (정원 값도 여기서 가져온다, 예외 시 구독 취소)
+     */
+    public SseEmitter subscribe(Long groupId, Supplier<TempAggregation> snapshotLoader) {
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        Channel channel = channels.compute(groupId, (id, existing) -> {
+            Channel current = (existing != null) ? existing : new Channel();
+            if (current.subscribers.size() >= properties.getMaxSubscribersPerGroup()) {
+                rejected.increment();
+                throw new TooManySubscribersException(REJECTED_MESSAGE);
+            }
+            current.subscribers.add(subscriber);
+            return current;
+        });
+
+        TempAggregation snapshot;
+        try {
+            snapshot = snapshotLoader.get();
+        } catch (RuntimeException e) {
+            unsubscribe(groupId, emitter);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(groupId, emitter));
+        emitter.onTimeout(() -> unsubscribe(groupId, emitter));
+        emitter.onError(e -> unsubscribe(groupId, emitter));
+
+        channel.maxCapacity = snapshot.totalCnt();
+        channel.lastSubmitCount.accumulateAndGet(snapshot.submitCnt(), Math::max);
+        subscriber.ready = true;
+        // 스냅샷이 이미 보낸 집계보다 오래됐으면 drain이 가장 최신 집계를 대신 보낸다
+        channel.pending.accumulateAndGet(snapshot, GroupAggregationBroadcaster::newer);
+        drain(groupId, channel);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmissionCommitted(GroupSubmissionCommittedEvent event) {
+        if (!channels.containsKey(event.groupId())) {
+            return;
+        }
+        // 느린 클라이언트가 제출 요청을 붙잡지 않도록 전송은 스케줄러 스레드에서
+        scheduler.execute(() -> broadcast(event));
+    }
+
+    public int subscriberCount(Long groupId) {
+        Channel channel = channels.get(groupId);
+        return (channel == null) ? 0 : channel.subscribers.size();
+    }
+
+    void broadcast(GroupSubmissionCommittedEvent event) {
+        Channel channel = channels.get(event.groupId());
+        if (channel == null) {
+            return;
+        }
+
+        // 커밋 순서와 리스너 실행 순서가 다를 수 있으므로 오래된 집계는 버린다
+        int previous = channel.lastSubmitCount.getAndAccumulate(event.submitCount(), Math::max);
+        if (event.submitCount() <= previous) {
+            return;
+        }
+        channel.pending.accumulateAndGet(
+                new TempAggregation(event.submitCount(), 0, List.copyOf(event.nicknames())),
+                GroupAggregationBroadcaster::newer);
+        drain(event.groupId(), channel);
+    }
+
+    int lastSubmitCount(Long groupId) {
+        Channel channel = channels.get(groupId);
+        return (channel == null) ? 0 : channel.lastSubmitCount.get();
+    }
+
+    // 구독자별로 마지막으로 보낸 제출 수 (테스트용)
+    List<Integer> sentSubmitCounts(Long groupId) {
+        Channel channel = channels.get(groupId);
+        return (channel == null) ? List.of() : channel.subscribers.stream().map(s -> s.sentSubmitCount).toList();
+    }
+
+    /**
+     * 다른 스레드가 이 그룹을 보내는 중이면 그 스레드가 최신 집계까지 이어서 보낸다 (그룹 내 순서 유지).
+     */
+    private void drain(Long groupId, Channel channel) {
+        while (channel.draining.compareAndSet(false, true)) {
+            try {
+                TempAggregation aggregation;
+                while ((aggregation = channel.pending.getAndSet(null)) != null) {
+                    channel.latest = newer(channel.latest, aggregation);
+                    // 정원은 이벤트에 없으므로 스냅샷에서 받은 값으로 채운다
+                    TempAggregation latest = new TempAggregation(
+                            channel.latest.submitCnt(), channel.maxCapacity, channel.latest.userList());
+                    for (Subscriber subscriber : channel.subscribers) {
+                        // 스냅샷을 받기 전인 구독자는 정원을 모르므로 건너뛰고, 이미 보낸 것보다 오래된 집계는 보내지 않는다
+                        if (subscriber.ready && subscriber.sentSubmitCount < latest.submitCnt()) {
+                            subscriber.sentSubmitCount = latest.submitCnt();
+                            send(groupId, subscriber.emitter, latest);
+                        }
+                    }
+                }
+            } finally {
+                channel.draining.set(false);
+            }
+            // draining을 내리기 직전에 들어온 집계가 있으면 다시 맡는다
+            if (channel.pending.get() == null) {
+                return;
+            }
+        }
+    }
+
+    private static TempAggregation newer(TempAggregation current, TempAggregation candidate) {
+        return (current == null || candidate.submitCnt() > current.submitCnt()) ? candidate : current;
+    }
+
+    // 그룹별로 나눠 맡겨 멈춘 클라이언트가 다른 그룹의 heartbeat를 막지 않게 한다
+    private void heartbeat() {
+        channels.forEach((groupId, channel) -> scheduler.execute(() -> channel.subscribers.forEach(subscriber -> {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(groupId, subscriber.emitter, e);
+            }
+        })));
+    }
+
+    private void send(Long groupId, SseEmitter emitter, TempAggregation aggregation) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(AGGREGATION_EVENT)
+                    .id(String.valueOf(aggregation.submitCnt()))
+                    .data(aggregation));
+        } catch (IOException | IllegalStateException e) {
+            drop(groupId, emitter, e);
+        }
+    }
+
+    private void drop(Long groupId, SseEmitter emitter, Exception e) {
+        // 클라이언트가 이미 연결을 끊은 경우
+        log.debug("[GroupStream] SSE send failed for groupId {}: {}", groupId, e.getMessage());
+        unsubscribe(groupId, emitter);
+        emitter.completeWithError(e);
+    }
+
+    private void unsubscribe(Long groupId, SseEmitter emitter) {
+        channels.computeIfPresent(groupId, (id, channel) -> {
+            channel.subscribers.removeIf(subscriber -> subscriber.emitter == emitter);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private double totalSubscribers() {
+        return channels.values().stream()
+                .mapToInt(channel -> channel.subscribers.size())
+                .sum();
+    }
+
+    private static final class Channel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        // 첫 구독자의 스냅샷에서 받는 그룹 정원
+        private volatile int maxCapacity;
+        // 받아들인 가장 큰 제출 수 (CAS로만 갱신)
+        private final AtomicInteger lastSubmitCount = new AtomicInteger();
+        // 아직 보내지 않은 가장 최신 집계
+        private final AtomicReference<TempAggregation> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 지금까지 본 가장 최신 집계 (draining 중인 스레드만 읽고 씀)
+        private TempAggregation latest;
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        // 스냅샷을 읽고 정원을 채운 뒤 true
+        private volatile boolean ready;
+        // 이 구독자에게 마지막으로 보낸 제출 수 (draining 중인 스레드만 씀)
+        private volatile int sentSubmitCount = -1;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ktb.group.version;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.group.config.GroupVersionProperties;
+import com.ktb.group.event.GroupChangedEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 그룹별 버전 (그룹 정보/집계 조회의 ETag)
+ * 쓰기가 커밋되면 새 버전으로 바꾸므로, 버전이 같으면 DB를 읽지 않고 304로 응답할 수 있다.
+ * 버전은 기동 시각에서 시작하는 단조 증가 값이라 재시작 전에 발급한 ETag와 겹치지 않는다.
+ * 인스턴스 메모리에만 있으므로 집계 SSE(GroupAggregationBroadcaster)와 같이 단일 인스턴스를 전제로 한다.
+ */
+@Component
+public class GroupVersionRegistry {
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Cache<Long, Long> versions;
+
+    public GroupVersionRegistry(GroupVersionProperties properties) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+    }
+
+    /**
+     * 응답 데이터를 읽기 전에 호출해야 한다 (읽는 도중 커밋된 쓰기는 다음 조회에서 200)
+     */
+    public long currentVersion(Long groupId) {
+        return versions.get(groupId, id -> sequence.incrementAndGet());
+    }
+
+    public void invalidate(Long groupId) {
+        versions.put(groupId, sequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGroupChanged(GroupChangedEvent event) {
+        invalidate(event.groupId());
+    }
+}
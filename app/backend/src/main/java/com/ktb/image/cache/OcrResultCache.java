@@ -0,0 +1,98 @@
+package com.ktb.image.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.image.config.OcrCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 내용(SHA-256) 단위 OCR 결과 캐시 (응답 크기/TTL 제한)
+ * 진행 중인 OCR의 future를 공유하므로 같은 이미지의 동시 업로드는 OCR 호출 1회로 합쳐진다.
+ * 실패한 future는 Caffeine이 자동으로 제거한다.
+ */
+@Component
+public class OcrResultCache {
+    private static final String CACHE_NAME = "ocr-result";
+
+    private final AsyncCache<String, String> cache;
+    private final Counter dedupHits;
+    private final Counter dedupMisses;
+
+    public OcrResultCache(OcrCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((String contentHash, String result) -> contentHash.length() + result.length())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        this.dedupHits = Counter.builder("ocr.dedup")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.dedupMisses = Counter.builder("ocr.dedup")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * owner=true: 호출자가 OCR을 수행하고 result를 완료(또는 예외 완료)해야 한다.
+     * owner=false: 캐시된 결과 또는 진행 중인 OCR에 합류
+     */
+    public record Claim(CompletableFuture<String> result, boolean owner) {
+    }
+
+    public Claim claim(String contentHash) {
+        AtomicBoolean owner = new AtomicBoolean(false);
+        // 매핑 함수는 빈 future만 만들고 OCR 호출은 caller가 락 밖에서 수행
+        CompletableFuture<String> result = cache.get(contentHash, (key, executor) -> {
+            owner.set(true);
+            return new CompletableFuture<>();
+        });
+
+        (owner.get() ? dedupMisses : dedupHits).increment();
+        return new Claim(result, owner.get());
+    }
+
+    /**
+     * 업로드를 target으로 복사하면서 SHA-256 계산 (한 번의 읽기)
+     */
+    public static String copyAndHash(InputStream source, Path target) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(source, digest)) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String hash(InputStream source) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(source, digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktb.image.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "target.image.cache")
+public class OcrCacheProperties {
+    // 같은 영수증 이미지의 OCR 결과 유지 시간
+    private Duration ttl = Duration.ofHours(6);
+    // 캐시에 보관할 OCR 응답 본문의 총 길이 (문자 수)
+    private long maximumWeight = 8_000_000;
+}
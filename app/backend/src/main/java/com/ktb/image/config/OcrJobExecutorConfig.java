@@ -0,0 +1,23 @@
+package com.ktb.image.config;
+
+import com.ktb.common.job.JobExecutors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class OcrJobExecutorConfig {
+
+    /**
+     * OCR 전송 전용 고정 크기 워커 풀
+     */
+    @Bean(name = "ocrJobExecutor")
+    public ThreadPoolTaskExecutor ocrJobExecutor(
+            OcrJobProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return JobExecutors.bounded("ocr-job-", properties.getWorkerThreads(), properties.getWorkerThreads(),
+                properties.getQueueCapacity(), virtualThreads);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb.image.config;
+
+import com.ktb.common.job.JobProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대기열/보관/SSE 설정(queue-capacity, retention, maximum-jobs, sse-timeout)은 JobProperties 참고
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "target.image.job")
+public class OcrJobProperties extends JobProperties {
+    // OCR 서버로 동시에 전송하는 워커 수 (고정)
+    private int workerThreads = 4;
+    // 대기열이 가득 차면 503 + Retry-After
+    private Duration retryAfter = Duration.ofSeconds(5);
+}
@@ -1,25 +1,33 @@
 package com.ktb.image.controller;
 
-import com.ktb.image.service.ImageForwardingService;
+import com.ktb.image.dto.response.OcrJobResponse;
+import com.ktb.image.exception.OcrJobRejectedException;
+import com.ktb.image.job.OcrJob;
+import com.ktb.image.service.OcrJobService;
 import java.io.IOException;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/image")
 @RequiredArgsConstructor
 public class ImageProxyController {
-    private final ImageForwardingService imageForwardingService;
+    private final OcrJobService ocrJobService;
 
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<Void> uploadImage(
+    public ResponseEntity<String> uploadImage(
             @RequestParam("file") MultipartFile file) {
 
         if (file.isEmpty()) {
@@ -27,11 +35,58 @@ public class ImageProxyController {
         }
 
         try {
-            imageForwardingService.forwardImage(file);
-            return ResponseEntity.ok().build();
+            // 같은 이미지는 캐시된 OCR 결과로 응답
+            String ocrResult = ocrJobService.recognize(file);
+            return ResponseEntity.ok(ocrResult);
+        } catch (OcrJobRejectedException e) {
+            // 같은 이미지로 진행 중이던 비동기 작업이 대기열에서 거절된 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                    .build();
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .build();
         }
     }
+
+    /**
+     * 비동기 OCR: 대기열에 넣고 작업 ID를 즉시 반환 (202)
+     */
+    @PostMapping(value = "/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<OcrJobResponse> submitOcrJob(
+            @RequestParam("file") MultipartFile file) {
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            OcrJob job = ocrJobService.submit(file);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/v1/image/jobs/" + job.getId()))
+                    .body(OcrJobResponse.from(job));
+        } catch (OcrJobRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                    .build();
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .build();
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<OcrJobResponse> getOcrJob(@PathVariable String jobId) {
+        return ocrJobService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(OcrJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeOcrJob(@PathVariable String jobId) {
+        return ocrJobService.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
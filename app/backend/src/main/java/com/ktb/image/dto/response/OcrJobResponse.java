@@ -0,0 +1,31 @@
+package com.ktb.image.dto.response;
+
+import com.ktb.common.job.JobStatus;
+import com.ktb.image.job.OcrJob;
+import java.time.Instant;
+
+public record OcrJobResponse(
+        String jobId,
+        String filename,
+        String contentHash,
+        boolean cached,
+        JobStatus status,
+        String result,
+        String errorMessage,
+        Instant createdAt,
+        Instant completedAt
+) {
+    public static OcrJobResponse from(OcrJob job) {
+        return new OcrJobResponse(
+                job.getId(),
+                job.getFilename(),
+                job.getContentHash(),
+                job.isCached(),
+                job.getStatus(),
+                job.getResult(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktb.image.exception;
+
+import com.ktb.common.job.JobRejectedException;
+import java.time.Duration;
+
+public class OcrJobRejectedException extends JobRejectedException {
+    public OcrJobRejectedException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
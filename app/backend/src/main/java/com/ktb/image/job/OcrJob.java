@@ -0,0 +1,26 @@
+package com.ktb.image.job;
+
+import com.ktb.common.job.AsyncJob;
+import lombok.Getter;
+
+/**
+ * 영수증 OCR 비동기 작업
+ */
+@Getter
+public class OcrJob extends AsyncJob<String, OcrJob> {
+    private final String filename;
+    // 이미지 내용 SHA-256
+    private final String contentHash;
+    // 같은 이미지의 캐시된 결과(또는 진행 중인 OCR)를 사용한 작업인지 여부
+    private final boolean cached;
+
+    private OcrJob(String filename, String contentHash, boolean cached) {
+        this.filename = filename;
+        this.contentHash = contentHash;
+        this.cached = cached;
+    }
+
+    public static OcrJob create(String filename, String contentHash, boolean cached) {
+        return new OcrJob(filename, contentHash, cached);
+    }
+}
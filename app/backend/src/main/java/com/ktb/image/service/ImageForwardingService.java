@@ -1,12 +1,14 @@
 package com.ktb.image.service;
 
 import java.io.IOException;
-import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.io.InputStream;
+import java.nio.file.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -19,26 +21,38 @@ import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageForwardingService {
-    private RestTemplate restTemplate;
+    private final RestTemplate restTemplate;
 
     @Value("${target.image.server.url:http://10.0.0.1:8000/receipt}")
     private String targetServerUrl;
 
-    public ImageForwardingService(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(30))
-                .build();
+    // 커넥션 풀/타임아웃은 outbound.http.ocr (OutboundHttpClientConfig)
+    public ImageForwardingService(@Qualifier("ocrRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
-    public void forwardImage(MultipartFile file) throws IOException {
+    /**
+     * 업로드 이미지를 OCR 서버로 전송하고 응답 본문을 반환
+     */
+    public String forwardImage(MultipartFile file) throws IOException {
+        return forward(new MultipartFileResource(file));
+    }
+
+    /**
+     * 비동기 작업용: 요청 종료 후에도 남아 있도록 복사해 둔 파일을 전송
+     */
+    public String forwardFile(Path file, String originalFilename) {
+        return forward(new UploadedFileResource(file, originalFilename));
+    }
+
+    private String forward(Resource resource) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
         MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", new MultipartFileResource(file));
+        // 요청 본문은 8KB 버퍼 단위로 스트리밍 (OCR 서버가 느리면 TCP 흐름 제어로 업로드 측도 대기)
+        body.add("file", resource);
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity =
                 new HttpEntity<>(body, headers);
@@ -50,21 +64,56 @@ public class ImageForwardingService {
         );
 
         log.info(response.getBody());
+        return response.getBody();
+    }
+
+    /**
+     * MultipartFile을 스트리밍 Resource로 감싸는 내부 클래스
+     * getBytes()로 전체를 힙에 올리지 않고, 전송 시 업로드 임시 파일의 InputStream을 그대로 흘려보낸다.
+     */
+    static class MultipartFileResource extends AbstractResource {
+
+        private final MultipartFile multipartFile;
+
+        MultipartFileResource(MultipartFile multipartFile) {
+            this.multipartFile = multipartFile;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return multipartFile.getInputStream();
+        }
+
+        // 기본 구현은 길이 계산을 위해 스트림을 끝까지 읽으므로 업로드 크기를 바로 반환
+        @Override
+        public long contentLength() {
+            return multipartFile.getSize();
+        }
+
+        @Override
+        public String getFilename() {
+            return multipartFile.getOriginalFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "MultipartFile resource [" + multipartFile.getName() + "]";
+        }
     }
 
-    // MultipartFile을 Resource로 변환하는 내부 클래스
-    private static class MultipartFileResource extends ByteArrayResource {
+    // 임시 파일 이름 대신 원래 업로드 파일명으로 전송
+    static class UploadedFileResource extends FileSystemResource {
 
-        private final String filename;
+        private final String originalFilename;
 
-        public MultipartFileResource(MultipartFile multipartFile) throws IOException {
-            super(multipartFile.getBytes());
-            this.filename = multipartFile.getOriginalFilename();
+        UploadedFileResource(Path file, String originalFilename) {
+            super(file);
+            this.originalFilename = originalFilename;
         }
 
         @Override
         public String getFilename() {
-            return this.filename;
+            return originalFilename;
         }
     }
 }
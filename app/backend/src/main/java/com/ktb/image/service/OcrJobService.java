@@ -0,0 +1,171 @@
+package com.ktb.image.service;
+
+import com.ktb.common.job.JobEventStream;
+import com.ktb.common.job.JobFailures;
+import com.ktb.common.job.JobStore;
+import com.ktb.image.cache.OcrResultCache;
+import com.ktb.image.config.OcrJobProperties;
+import com.ktb.image.dto.response.OcrJobResponse;
+import com.ktb.image.exception.OcrJobRejectedException;
+import com.ktb.image.job.OcrJob;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 영수증 업로드를 대기열에 넣고 고정 워커 풀에서 OCR 서버로 전송
+ * 요청 스레드는 임시 파일 복사(+내용 해시)까지만 수행하고 바로 반환한다.
+ * 같은 이미지는 OcrResultCache로 OCR 호출 1회만 수행한다.
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+    private static final String REJECTED_MESSAGE = "OCR 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String FAILED_MESSAGE = "영수증 인식에 실패했습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final ImageForwardingService imageForwardingService;
+    private final TaskExecutor executor;
+    private final OcrJobProperties properties;
+    private final OcrResultCache ocrResultCache;
+
+    // jobId → 작업
+    private final JobStore<OcrJob> jobs;
+
+    public OcrJobService(
+            ImageForwardingService imageForwardingService,
+            @Qualifier("ocrJobExecutor") TaskExecutor executor,
+            OcrJobProperties properties,
+            OcrResultCache ocrResultCache
+    ) {
+        this.imageForwardingService = imageForwardingService;
+        this.executor = executor;
+        this.properties = properties;
+        this.ocrResultCache = ocrResultCache;
+        this.jobs = new JobStore<>(properties.getRetention(), properties.getMaximumJobs());
+    }
+
+    public OcrJob submit(MultipartFile file) throws IOException {
+        // 멀티파트 임시 파일은 요청이 끝나면 삭제되므로 작업용으로 옮기면서 내용 해시 계산
+        Path upload = Files.createTempFile("ocr-", ".upload");
+        String contentHash;
+        try {
+            contentHash = OcrResultCache.copyAndHash(file.getInputStream(), upload);
+        } catch (IOException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+
+        OcrResultCache.Claim claim = ocrResultCache.claim(contentHash);
+        OcrJob job = OcrJob.create(file.getOriginalFilename(), contentHash, !claim.owner());
+        jobs.put(job);
+        attach(job, claim.result());
+
+        if (!claim.owner()) {
+            // 같은 이미지의 결과가 이미 있거나 OCR 진행 중: 대기열에 넣지 않음
+            deleteQuietly(upload);
+            log.info("[OCR] job {} ({}) served from content cache", job.getId(), job.getFilename());
+            return job;
+        }
+
+        try {
+            executor.execute(() -> run(job, upload, claim.result()));
+        } catch (TaskRejectedException e) {
+            log.warn("[OCR] queue full, rejecting upload {}", file.getOriginalFilename());
+            jobs.remove(job.getId());
+            deleteQuietly(upload);
+            // 그 사이 합류한 업로드도 실패를 받도록 예외 완료 (캐시에서는 자동 제거)
+            claim.result().completeExceptionally(new OcrJobRejectedException(REJECTED_MESSAGE, properties.getRetryAfter()));
+            throw new OcrJobRejectedException(REJECTED_MESSAGE, properties.getRetryAfter());
+        }
+
+        log.info("[OCR] enqueued job {} ({})", job.getId(), job.getFilename());
+        return job;
+    }
+
+    /**
+     * 동기 OCR. 같은 이미지의 결과가 캐시에 있으면 OCR 서버를 호출하지 않는다.
+     */
+    public String recognize(MultipartFile file) throws IOException {
+        String contentHash;
+        try (InputStream in = file.getInputStream()) {
+            contentHash = OcrResultCache.hash(in);
+        }
+
+        OcrResultCache.Claim claim = ocrResultCache.claim(contentHash);
+        if (claim.owner()) {
+            try {
+                claim.result().complete(imageForwardingService.forwardImage(file));
+            } catch (IOException | RuntimeException e) {
+                claim.result().completeExceptionally(e);
+                throw e;
+            }
+        }
+        return awaitResult(claim.result());
+    }
+
+    public Optional<OcrJob> findJob(String jobId) {
+        return jobs.find(jobId);
+    }
+
+    /**
+     * 현재 상태를 "status" 이벤트로 보내고, 완료 시 "result" 이벤트를 보낸 뒤 스트림을 닫는다.
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        return findJob(jobId).map(job ->
+                JobEventStream.open(job, properties.getSseTimeout(), OcrJobResponse::from));
+    }
+
+    private void run(OcrJob job, Path upload, CompletableFuture<String> result) {
+        job.markRunning();
+        try {
+            result.complete(imageForwardingService.forwardFile(upload, job.getFilename()));
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void attach(OcrJob job, CompletableFuture<String> result) {
+        result.whenComplete((body, error) -> {
+            if (error == null) {
+                job.succeed(body);
+                log.info("[OCR] job {} succeeded", job.getId());
+            } else {
+                Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+                log.error("[OCR] job {} failed: {}", job.getId(), cause.getMessage(), cause);
+                // 원인 예외는 로그에만 남긴다 (JobFailures 참고)
+                job.fail(JobFailures.clientMessage(cause, FAILED_MESSAGE, OcrJobRejectedException.class));
+            }
+        });
+    }
+
+    private static String awaitResult(CompletableFuture<String> result) throws IOException {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[OCR] failed to delete temp file {}: {}", file, e.getMessage());
+        }
+    }
+}
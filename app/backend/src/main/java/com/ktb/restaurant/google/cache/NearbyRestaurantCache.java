@@ -0,0 +1,69 @@
+package com.ktb.restaurant.google.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.restaurant.google.api.GooglePlacesApiClient;
+import com.ktb.restaurant.google.config.PlacesCacheProperties;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주변 맛집 검색 결과 캐시 (좌표 셀 + 반경 + 필드 마스크 단위, TTL/크기 제한)
+ * 진행 중인 요청의 future를 공유하므로 같은 키의 동시 요청은 upstream 호출 1회로 합쳐진다.
+ */
+@Component
+public class NearbyRestaurantCache {
+    private static final String CACHE_NAME = "nearby-restaurant";
+
+    private final AsyncCache<NearbyKey, List<PlaceSummaryDto>> cache;
+    private final double cellSizeDegrees;
+
+    public NearbyRestaurantCache(PlacesCacheProperties properties, MeterRegistry meterRegistry) {
+        PlacesCacheProperties.Nearby nearby = properties.getNearby();
+        this.cellSizeDegrees = nearby.getCellSizeDegrees();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(nearby.getTtl())
+                .maximumSize(nearby.getMaximumSize())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    public record NearbyKey(long latCell, long lngCell, int radiusMeter, String fieldMask) {
+    }
+
+    public NearbyKey keyOf(double lat, double lng, int radiusMeter) {
+        return new NearbyKey(
+                Math.round(lat / cellSizeDegrees),
+                Math.round(lng / cellSizeDegrees),
+                radiusMeter,
+                GooglePlacesApiClient.RESTAURANT_FIELD_MASK
+        );
+    }
+
+    /**
+     * 캐시된 결과 반환, 없으면 loader를 한 번만 구독해 적재
+     * (실패/빈 결과는 캐시하지 않고 다음 요청에서 다시 조회, 호출자에게는 빈 리스트 반환)
+     */
+    public Mono<List<PlaceSummaryDto>> get(
+            double lat,
+            double lng,
+            int radiusMeter,
+            Supplier<Mono<List<PlaceSummaryDto>>> loader
+    ) {
+        NearbyKey key = keyOf(lat, lng, radiusMeter);
+
+        // 한 구독자의 취소가 공유 future를 취소하지 않도록 suppressCancel
+        // 빈 리스트는 빈 Mono로 바꿔 null로 완료시킴 → Caffeine이 적재하지 않음
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.get()
+                        .filter(places -> !places.isEmpty())
+                        .toFuture()), true)
+                .defaultIfEmpty(List.of());
+    }
+}
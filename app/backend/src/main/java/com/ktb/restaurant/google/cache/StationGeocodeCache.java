@@ -0,0 +1,128 @@
+package com.ktb.restaurant.google.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ktb.restaurant.google.api.GooglePlacesApiClient;
+import com.ktb.restaurant.google.config.PlacesCacheProperties;
+import com.ktb.restaurant.google.domain.StationGeocode;
+import com.ktb.restaurant.google.dto.StationTextSearchResponse;
+import com.ktb.restaurant.google.repository.StationGeocodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 역 좌표 2단계 캐시 (메모리 → DB → Google Places Text Search)
+ * 역 좌표는 변하지 않으므로 만료 없이 크기로만 제한한다.
+ * 진행 중인 조회의 future를 공유하므로 같은 역의 동시 미스는 DB 조회/Google 호출/저장 1회로 합쳐진다.
+ */
+@Slf4j
+@Component
+public class StationGeocodeCache {
+    private static final String CACHE_NAME = "station-geocode";
+
+    private final GooglePlacesApiClient googleClient;
+    private final StationGeocodeRepository stationGeocodeRepository;
+    private final AsyncCache<String, StationTextSearchResponse.Place> memory;
+
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public StationGeocodeCache(
+            GooglePlacesApiClient googleClient,
+            StationGeocodeRepository stationGeocodeRepository,
+            PlacesCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.googleClient = googleClient;
+        this.stationGeocodeRepository = stationGeocodeRepository;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(properties.getStation().getMaximumSize())
+                .recordStats()
+                .buildAsync();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, memory.synchronous(), CACHE_NAME);
+        this.persistentHits = Counter.builder("station.geocode.persistent")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.persistentMisses = Counter.builder("station.geocode.persistent")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 역 검색어를 좌표로 변환. 찾지 못한 역은 캐시하지 않고 null 반환
+     */
+    public StationTextSearchResponse.Place resolve(String stationQuery) {
+        // null을 돌려주면 Caffeine이 항목을 남기지 않는다
+        return memory.synchronous().get(stationQuery, this::loadFromPersistentTier);
+    }
+
+    /**
+     * resolve의 논블로킹 버전. DB 접근은 boundedElastic에서, Google 호출은 WebClient로 수행
+     * 찾지 못한 역은 캐시하지 않고 빈 Mono (빈 Mono의 future는 null로 완료되어 항목이 제거된다)
+     */
+    public Mono<StationTextSearchResponse.Place> resolveAsync(String stationQuery) {
+        // 한 구독자의 취소가 공유 future를 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(() -> memory.get(stationQuery,
+                (key, executor) -> loadFromPersistentTierAsync(key).toFuture()), true);
+    }
+
+    public CacheStats memoryStats() {
+        return memory.synchronous().stats();
+    }
+
+    private Mono<StationTextSearchResponse.Place> loadFromPersistentTierAsync(String stationQuery) {
+        return Mono.fromCallable(() -> findPersisted(stationQuery))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> googleClient.searchStationAsync(stationQuery)
+                        .mapNotNull(StationTextSearchResponse::first)
+                        .filter(place -> place.location() != null)
+                        .flatMap(place -> Mono.fromRunnable(() -> persist(stationQuery, place))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(place))));
+    }
+
+    private StationTextSearchResponse.Place loadFromPersistentTier(String stationQuery) {
+        StationTextSearchResponse.Place stored = findPersisted(stationQuery);
+        if (stored != null) {
+            return stored;
+        }
+
+        StationTextSearchResponse response = googleClient.searchStation(stationQuery);
+        StationTextSearchResponse.Place place = (response == null) ? null : response.first();
+        if (place == null || place.location() == null) {
+            return null;
+        }
+
+        persist(stationQuery, place);
+        return place;
+    }
+
+    private StationTextSearchResponse.Place findPersisted(String stationQuery) {
+        Optional<StationGeocode> stored = stationGeocodeRepository.findById(stationQuery);
+        if (stored.isPresent()) {
+            persistentHits.increment();
+            return stored.get().toPlace();
+        }
+        persistentMisses.increment();
+        return null;
+    }
+
+    private void persist(String stationQuery, StationTextSearchResponse.Place place) {
+        try {
+            stationGeocodeRepository.save(StationGeocode.create(stationQuery, place));
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 저장한 경우 등: 메모리 캐시에는 그대로 적재
+            log.warn("Failed to persist station geocode [{}]: {}", stationQuery, e.getMessage());
+        }
+    }
+}
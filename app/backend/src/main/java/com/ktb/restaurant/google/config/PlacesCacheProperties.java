@@ -0,0 +1,33 @@
+package com.ktb.restaurant.google.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "google.places.cache")
+public class PlacesCacheProperties {
+    private Station station = new Station();
+    private Nearby nearby = new Nearby();
+
+    @Getter
+    @Setter
+    public static class Station {
+        // 메모리 캐시에 유지할 최대 역 개수 (초과 시 eviction)
+        private long maximumSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Nearby {
+        // 주변 맛집 결과 유지 시간
+        private Duration ttl = Duration.ofMinutes(10);
+        private long maximumSize = 2_000;
+        // 좌표 셀 크기 (도 단위, 0.001 ≈ 110m). 같은 셀의 요청은 같은 결과를 공유
+        private double cellSizeDegrees = 0.001;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ktb.restaurant.google.domain;
+
+import com.ktb.restaurant.google.dto.NearbySearchResponse.LatLng;
+import com.ktb.restaurant.google.dto.StationTextSearchResponse;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Date;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 역 이름 → 좌표 변환 결과 (Google Places Text Search 결과를 영속화)
+ */
+@Entity
+@Getter
+@Table(name = "station_geocode")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StationGeocode {
+    @Id
+    @Column(name = "station_query")
+    private String stationQuery;
+
+    @Column(name = "formatted_address")
+    private String formattedAddress;
+
+    private double latitude;
+
+    private double longitude;
+
+    @Column(name = "created_at", nullable = false)
+    private Date createdAt;
+
+    public static StationGeocode create(String stationQuery, StationTextSearchResponse.Place place) {
+        return new StationGeocode(
+                stationQuery,
+                place.formattedAddress(),
+                place.location().latitude(),
+                place.location().longitude(),
+                new Date()
+        );
+    }
+
+    public StationTextSearchResponse.Place toPlace() {
+        return new StationTextSearchResponse.Place(formattedAddress, new LatLng(latitude, longitude));
+    }
+}
@@ -0,0 +1,7 @@
+package com.ktb.restaurant.google.repository;
+
+import com.ktb.restaurant.google.domain.StationGeocode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StationGeocodeRepository extends JpaRepository<StationGeocode, String> {
+}
@@ -1,40 +1,77 @@
 package com.ktb.restaurant.google.service;
 
 import com.ktb.restaurant.google.api.GooglePlacesApiClient;
+import com.ktb.restaurant.google.cache.NearbyRestaurantCache;
+import com.ktb.restaurant.google.cache.StationGeocodeCache;
 import com.ktb.restaurant.google.dto.NearbySearchResponse;
 import com.ktb.restaurant.google.dto.PlaceSummaryDto;
 import com.ktb.restaurant.google.dto.StationTextSearchResponse;
 import com.ktb.restaurant.google.mapper.PlaceSummaryMapper;
 import java.util.List;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 public class RestaurantSearchService {
+    private static final int SEARCH_RADIUS_METER = 500;
 
     private final GooglePlacesApiClient googleClient;
     private final PlaceSummaryMapper mapper;
+    private final StationGeocodeCache stationGeocodeCache;
+    private final NearbyRestaurantCache nearbyRestaurantCache;
 
-    public RestaurantSearchService(GooglePlacesApiClient googleClient, PlaceSummaryMapper mapper) {
+    public RestaurantSearchService(
+            GooglePlacesApiClient googleClient,
+            PlaceSummaryMapper mapper,
+            StationGeocodeCache stationGeocodeCache,
+            NearbyRestaurantCache nearbyRestaurantCache
+    ) {
         this.googleClient = googleClient;
         this.mapper = mapper;
+        this.stationGeocodeCache = stationGeocodeCache;
+        this.nearbyRestaurantCache = nearbyRestaurantCache;
     }
 
     public List<PlaceSummaryDto> findRestaurantsByStation(String stationName) {
-        // 역 검색 (주소는 참고/표시용, Nearby는 location 사용)
-        StationTextSearchResponse stationRes = googleClient.searchStation(stationName + "역");
-        StationTextSearchResponse.Place station = stationRes.first();
+        // 역 좌표 조회 (메모리/DB 캐시 → 미스 시에만 Google Text Search)
+        StationTextSearchResponse.Place station = stationGeocodeCache.resolve(stationName + "역");
+
+        List<PlaceSummaryDto> restaurants = searchNearby(stationName, station).block();
+        return (restaurants == null) ? List.of() : restaurants;
+    }
+
+    /**
+     * findRestaurantsByStation의 논블로킹 버전 (요청 스레드를 점유하지 않음)
+     */
+    public Mono<List<PlaceSummaryDto>> findRestaurantsByStationAsync(String stationName) {
+        return stationGeocodeCache.resolveAsync(stationName + "역")
+                .switchIfEmpty(Mono.error(() -> stationNotFound(stationName)))
+                .flatMap(station -> searchNearby(stationName, station))
+                .defaultIfEmpty(List.of());
+    }
+
+    private Mono<List<PlaceSummaryDto>> searchNearby(String stationName, StationTextSearchResponse.Place station) {
         if (station == null || station.location() == null) {
-            throw new IllegalArgumentException("역 정보를 찾을 수 없습니다: " + stationName);
+            return Mono.error(stationNotFound(stationName));
         }
 
         double lat = station.location().latitude();
         double lng = station.location().longitude();
 
-        NearbySearchResponse nearby = googleClient.searchRestaurants(lat, lng, 500);
+        // 주변 맛집 (TTL 캐시, 동시 요청은 upstream 1회로 합침)
+        return nearbyRestaurantCache.get(lat, lng, SEARCH_RADIUS_METER,
+                () -> googleClient.searchRestaurantsAsync(lat, lng, SEARCH_RADIUS_METER).map(this::toSummaries)
+        );
+    }
 
+    private List<PlaceSummaryDto> toSummaries(NearbySearchResponse nearby) {
         if (nearby.places() == null) return List.of();
         return nearby.places().stream()
                 .map(mapper::toDto)
                 .toList();
     }
+
+    private static IllegalArgumentException stationNotFound(String stationName) {
+        return new IllegalArgumentException("역 정보를 찾을 수 없습니다: " + stationName);
+    }
 }
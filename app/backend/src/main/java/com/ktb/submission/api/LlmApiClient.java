@@ -0,0 +1,159 @@
+package com.ktb.submission.api;
+
+import com.ktb.submission.config.LlmResilienceProperties;
+import com.ktb.submission.dto.request.AiGenerateRequest;
+import com.ktb.submission.dto.response.AiGenerateResponse;
+import com.ktb.submission.exception.LlmUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Python LLM 서버 (/generate) 클라이언트
+ * circuit breaker(실패율/느린 호출 비율)와 bulkhead(동시 호출 상한)로 감싸서,
+ * 서버가 느려지거나 죽으면 기다리지 않고 LlmUnavailableException으로 즉시 실패한다.
+ */
+@Slf4j
+@Component
+public class LlmApiClient {
+    private static final String RESILIENCE_NAME = "llm";
+
+    private final WebClient webClient;
+    private final LlmResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    // baseUrl(LLM_SERVER_URL)/커넥션 풀/타임아웃은 outbound.http.llm (OutboundHttpClientConfig)
+    public LlmApiClient(
+            @Qualifier("llmWebClient") WebClient llmWebClient,
+            LlmResilienceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.webClient = llmWebClient.mutate()
+                .defaultHeader("Accept-Charset", StandardCharsets.UTF_8.name())
+                .build();
+        this.properties = properties;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWaitDuration())
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_NAME);
+
+        // resilience4j.circuitbreaker.{state,calls,failure.rate,slow.call.rate,not.permitted.calls}
+        // resilience4j.bulkhead.{available.concurrent.calls,max.allowed.concurrent.calls}
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+
+        // llm.calls.rejected{reason=circuit_open|bulkhead_full}, llm.circuit.transitions{from,to}
+        Counter circuitOpenRejections = rejectedCounter(meterRegistry, "circuit_open");
+        Counter bulkheadFullRejections = rejectedCounter(meterRegistry, "bulkhead_full");
+        circuitBreaker.getEventPublisher()
+                .onCallNotPermitted(event -> circuitOpenRejections.increment())
+                .onStateTransition(event -> {
+                    log.warn("[LLM] circuit breaker {}", event.getStateTransition());
+                    Counter.builder("llm.circuit.transitions")
+                            .tag("from", event.getStateTransition().getFromState().name())
+                            .tag("to", event.getStateTransition().getToState().name())
+                            .register(meterRegistry)
+                            .increment();
+                });
+        bulkhead.getEventPublisher()
+                .onCallRejected(event -> bulkheadFullRejections.increment());
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public Mono<AiGenerateResponse> generate(AiGenerateRequest request) {
+        return webClient.post()
+                .uri("/generate")
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .accept(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .acceptCharset(StandardCharsets.UTF_8)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        response -> response.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .doOnNext(errorBody -> {
+                                    log.error("=== [LLM] Server Error ===");
+                                    log.error("[LLM] Status Code: {}", response.statusCode());
+                                    log.error("[LLM] Error Response Body: {}", errorBody);
+                                })
+                                // 5xx는 서버 장애로 보고 로컬 추천 대체 대상, 4xx는 요청 오류
+                                .map(errorBody -> response.statusCode().is5xxServerError()
+                                        ? new LlmUnavailableException("LLM 서버 오류 (" + response.statusCode() + ")")
+                                        : new RuntimeException("LLM Server Error (" + response.statusCode() + "): " + errorBody))
+                )
+                .bodyToMono(AiGenerateResponse.class)
+                .doOnSuccess(resp -> {
+                    log.info("=== [LLM] response received successfully ===");
+                    log.info("[LLM] Number of results: {}", resp != null && resp.getResults() != null ? resp.getResults().size() : 0);
+                    log.debug("[LLM] Full response: {}", resp);
+                })
+                .doOnError(error -> {
+                    log.error("=== [LLM] request failed ===", error);
+                    log.error("[LLM] Error type: {}", error.getClass().getName());
+                    log.error("[LLM] Error message: {}", error.getMessage());
+                })
+                // 연결 실패(서버 다운 등)도 circuit이 열리기 전부터 로컬 추천으로 대체되도록
+                .onErrorMap(LlmApiClient::isTransportError,
+                        e -> new LlmUnavailableException("LLM 서버에 연결할 수 없습니다.", e))
+                // 제한 시간 초과도 circuit breaker에 실패로 기록되도록 안쪽에서 timeout
+                .timeout(properties.getCallTimeout())
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                // bulkhead 거절은 서버 장애가 아니므로 circuit breaker 바깥에 둔다
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(CallNotPermittedException.class,
+                        e -> new LlmUnavailableException("LLM 서버가 응답하지 않아 요청을 차단했습니다. 잠시 후 다시 시도해 주세요.", e))
+                .onErrorMap(BulkheadFullException.class,
+                        e -> new LlmUnavailableException("LLM 서버 동시 요청 수가 초과되었습니다. 잠시 후 다시 시도해 주세요.", e))
+                .onErrorMap(TimeoutException.class,
+                        e -> new LlmUnavailableException("LLM 서버 응답 시간이 초과되었습니다.", e));
+    }
+
+    private static boolean isTransportError(Throwable e) {
+        return e instanceof WebClientRequestException || e instanceof IOException;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("llm.calls.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb.submission.bulk;
+
+import com.ktb.submission.dto.request.SubmitRequest;
+
+/**
+ * 가져오기 파일의 한 행
+ *
+ * @param row   CSV는 헤더를 뺀 데이터 행 번호, NDJSON은 줄 번호 (1부터)
+ * @param error 형식 오류 메시지 (정상 행이면 null)
+ */
+public record ImportRow(int row, SubmitRequest request, String error) {
+
+    public static ImportRow valid(int row, SubmitRequest request) {
+        return new ImportRow(row, request, null);
+    }
+
+    public static ImportRow invalid(int row, String nickname, String error) {
+        return new ImportRow(row, new SubmitRequest(nickname, null, null, null, null, null, null), error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    public String nickname() {
+        return request.nickname();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ktb.submission.bulk;
+
+public enum ImportRowStatus {
+    IMPORTED,
+    DUPLICATE,        // 이미 제출했거나 파일 안에서 같은 닉네임이 앞에 있음
+    USER_NOT_FOUND,   // 가입하지 않은 닉네임
+    OVER_CAPACITY,    // 남은 정원을 넘는 행 (파일 순서대로 채움)
+    INVALID           // 형식 오류
+}
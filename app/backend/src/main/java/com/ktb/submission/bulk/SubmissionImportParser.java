@@ -0,0 +1,167 @@
+package com.ktb.submission.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.ktb.submission.domain.ExcludedDateSet;
+import com.ktb.submission.dto.request.SubmitRequest;
+import com.ktb.submission.exception.InvalidImportFileException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제출 일괄 가져오기 파일 파서 (CSV / NDJSON)
+ * 본문을 한 행씩 읽어 SubmitRequest로 바꾸므로 파일 전체를 메모리에 올리지 않는다.
+ * 형식이 잘못된 행은 INVALID 행으로 남기고, 파일 자체를 읽을 수 없거나 행 수가 상한을 넘으면 InvalidImportFileException.
+ *
+ * <p>CSV는 첫 줄이 헤더이고 열 이름은 JSON 필드명과 같다.
+ * excluded_dates는 yyyy-MM-dd를 ';'나 공백으로 구분한다.
+ * <pre>
+ * nickname,gender,age,excluded_dates,preferred_foods,avoided_foods,excluded_foods
+ * 민수,M,29,2025-01-10;2025-01-11,"치킨,피자",회,
+ * </pre>
+ */
+@Component
+public class SubmissionImportParser {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private static final CsvSchema HEADER_SCHEMA = CsvSchema.emptySchema().withHeader();
+    private static final TypeReference<Map<String, String>> CSV_RECORD = new TypeReference<>() {
+    };
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    public SubmissionImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public List<ImportRow> parse(InputStream body, MediaType contentType, int maxRows) {
+        Charset charset = (contentType.getCharset() != null) ? contentType.getCharset() : StandardCharsets.UTF_8;
+        try (BufferedReader reader = open(body, charset)) {
+            if (TEXT_CSV.isCompatibleWith(contentType)) {
+                return parseCsv(reader, maxRows);
+            }
+            if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+                return parseNdjson(reader, maxRows);
+            }
+        } catch (IOException e) {
+            throw new InvalidImportFileException("파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        throw new InvalidImportFileException("지원하지 않는 형식입니다: " + contentType);
+    }
+
+    private List<ImportRow> parseCsv(BufferedReader reader, int maxRows) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (MappingIterator<Map<String, String>> records =
+                     csvMapper.readerFor(CSV_RECORD).with(HEADER_SCHEMA).readValues(reader)) {
+            while (records.hasNextValue()) {
+                rows.add(toRow(rows.size() + 1, records.nextValue()));
+                checkLimit(rows, maxRows);
+            }
+        }
+        return rows;
+    }
+
+    private List<ImportRow> parseNdjson(BufferedReader reader, int maxRows) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                rows.add(validate(lineNumber, objectMapper.readValue(line, SubmitRequest.class)));
+            } catch (JsonProcessingException e) {
+                rows.add(ImportRow.invalid(lineNumber, null, "JSON 형식 오류: " + e.getOriginalMessage()));
+            }
+            checkLimit(rows, maxRows);
+        }
+        return rows;
+    }
+
+    private ImportRow toRow(int row, Map<String, String> record) {
+        String nickname = record.get("nickname");
+        try {
+            return validate(row, new SubmitRequest(
+                    nickname,
+                    emptyToNull(record.get("gender")),
+                    parseAge(record.get("age")),
+                    parseDates(record.get("excluded_dates")),
+                    record.getOrDefault("preferred_foods", ""),
+                    record.getOrDefault("avoided_foods", ""),
+                    record.getOrDefault("excluded_foods", "")
+            ));
+        } catch (NumberFormatException e) {
+            return ImportRow.invalid(row, nickname, "age는 숫자여야 합니다: " + record.get("age"));
+        } catch (DateTimeParseException e) {
+            return ImportRow.invalid(row, nickname, "excluded_dates는 yyyy-MM-dd 형식이어야 합니다: " + e.getParsedString());
+        }
+    }
+
+    private static ImportRow validate(int row, SubmitRequest request) {
+        if (request.nickname() == null || request.nickname().isBlank()) {
+            return ImportRow.invalid(row, null, "nickname이 없습니다.");
+        }
+        return ImportRow.valid(row, request.withNickname(request.nickname().strip()));
+    }
+
+    private static Integer parseAge(String value) {
+        return (value == null || value.isBlank()) ? null : Integer.valueOf(value.strip());
+    }
+
+    // 개별 제출과 같이 서비스 기준(Asia/Seoul) 자정으로 변환
+    private static List<Date> parseDates(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.strip().split("[;\\s]+"))
+                .map(LocalDate::parse)
+                .map(date -> Date.from(date.atStartOfDay(ExcludedDateSet.SERVICE_ZONE).toInstant()))
+                .toList();
+    }
+
+    private static String emptyToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+    private static void checkLimit(List<ImportRow> rows, int maxRows) {
+        if (rows.size() > maxRows) {
+            throw new InvalidImportFileException("한 번에 최대 " + maxRows + "행까지 가져올 수 있습니다.");
+        }
+    }
+
+    // 엑셀에서 저장한 CSV의 UTF-8 BOM 제거
+    private static BufferedReader open(InputStream body, Charset charset) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        reader.mark(1);
+        if (reader.read() != BYTE_ORDER_MARK) {
+            reader.reset();
+        }
+        return reader;
+    }
+}
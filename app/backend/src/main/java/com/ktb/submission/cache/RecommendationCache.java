@@ -0,0 +1,104 @@
+package com.ktb.submission.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.submission.config.RecommendationCacheProperties;
+import com.ktb.submission.dto.request.AiGenerateRequest;
+import com.ktb.submission.dto.request.RestaurantCandidate;
+import com.ktb.submission.dto.response.AiGenerateResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * LLM 추천 결과 캐시 (AiGenerateRequest 내용 해시 단위, TTL/크기 제한)
+ * 후보 이름은 정렬해서 해시하므로 후보 순서가 달라도 같은 키가 된다.
+ * 선호/비선호 음식은 많이 고른 순으로 프롬프트에 들어가므로 순서를 그대로 키에 넣는다.
+ */
+@Component
+public class RecommendationCache {
+    private static final String CACHE_NAME = "llm-recommendation";
+    private static final String FIELD_SEPARATOR = "\u001F";
+
+    private final AsyncCache<String, AiGenerateResponse> cache;
+
+    public RecommendationCache(RecommendationCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    public record Recommendation(AiGenerateResponse response, boolean cached) {
+    }
+
+    /**
+     * 캐시된 결과 반환, 없으면 loader(LLM 호출)를 한 번만 구독해 적재 (실패/빈 응답은 캐시하지 않음)
+     * 진행 중인 생성에 합류한 경우도 cached=true
+     */
+    public Mono<Recommendation> get(AiGenerateRequest request, Supplier<Mono<AiGenerateResponse>> loader) {
+        String key = keyOf(request);
+        AtomicBoolean generated = new AtomicBoolean(false);
+
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> {
+                    generated.set(true);
+                    return loader.get().toFuture();
+                }), true)
+                .map(response -> new Recommendation(response, !generated.get()));
+    }
+
+    /**
+     * people, location, preferences/avoid(순서 유지), budget_per_person, 정렬된 후보 이름, max_new_tokens의 SHA-256
+     */
+    public static String keyOf(AiGenerateRequest request) {
+        String canonical = String.join(FIELD_SEPARATOR,
+                Objects.toString(request.getPeople(), ""),
+                Objects.toString(request.getLocation(), ""),
+                rankedTerms(request.getPreferences()),
+                rankedTerms(request.getAvoid()),
+                Objects.toString(request.getBudgetPerPerson(), ""),
+                sortedCandidateNames(request.getCandidates()),
+                String.valueOf(request.getMaxNewTokens())
+        );
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 각 항목은 중복 없는 키워드이고 고른 멤버 수 순서 (TotalUserSubmission.likedFoods)
+    // 같은 키워드라도 순위가 다르면 프롬프트가 다르므로 정렬하지 않는다
+    private static String rankedTerms(List<String> values) {
+        if (values == null) return "";
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.joining(FIELD_SEPARATOR));
+    }
+
+    private static String sortedCandidateNames(List<RestaurantCandidate> candidates) {
+        if (candidates == null) return "";
+        return candidates.stream()
+                .map(RestaurantCandidate::getDisplayName)
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.joining(FIELD_SEPARATOR));
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.submission.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.candidates")
+public class CandidateSelectionProperties {
+    // LLM/로컬 엔진에 넘기는 후보 식당 최대 개수 (top-K)
+    private int maxCandidates = 10;
+    // 같은 primaryType 후보 최대 개수 (다양성 확보, 자리가 남으면 완화)
+    private int maxPerPrimaryType = 3;
+    // 시작 가격이 1인 예산 x 이 배수를 넘으면 제외
+    private double budgetTolerance = 1.5;
+}
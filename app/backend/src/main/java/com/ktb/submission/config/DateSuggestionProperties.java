@@ -0,0 +1,18 @@
+package com.ktb.submission.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.date-suggestion")
+public class DateSuggestionProperties {
+    // 총무에게 제안하는 날짜 수
+    private int resultCount = 3;
+
+    // 그룹 날짜 범위 상한 (넘으면 시작일부터 이 일수까지만 계산, 멤버 제외 날짜 범위가 넘으면 400)
+    private int maxWindowDays = 366;
+}
@@ -0,0 +1,18 @@
+package com.ktb.submission.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.migration")
+public class ExcludedDateMigrationProperties {
+    // true면 기동 시 event_date 행을 submission.excluded_dates 비트맵으로 옮김 (여러 번 실행해도 안전)
+    private boolean excludedDatesBackfill = false;
+
+    // 한 트랜잭션에서 옮길 제출 수
+    private int batchSize = 500;
+}
@@ -0,0 +1,31 @@
+package com.ktb.submission.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.llm")
+public class LlmResilienceProperties {
+    // /generate 호출 전체 제한 시간 (초과 시 실패로 기록)
+    private Duration callTimeout = Duration.ofSeconds(60);
+
+    // 최근 N회 호출 기준으로 실패율/느린 호출 비율 계산
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private float failureRateThreshold = 50;
+    // 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(30);
+    private float slowCallRateThreshold = 50;
+    // OPEN 유지 시간 (이후 HALF_OPEN에서 시험 호출)
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    private int permittedNumberOfCallsInHalfOpenState = 3;
+
+    // 동시에 LLM 서버로 나가는 /generate 호출 상한 (초과 시 대기 없이 거절)
+    private int maxConcurrentCalls = 10;
+    private Duration maxWaitDuration = Duration.ZERO;
+}
@@ -0,0 +1,19 @@
+package com.ktb.submission.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.local-recommendation")
+public class LocalRecommendationProperties {
+    // LLM 서버 장애(circuit open/동시 요청 초과/시간 초과) 시 로컬 엔진 결과로 대체
+    private boolean fallbackEnabled = true;
+    // 인원이 이 값 이하인 그룹은 LLM 없이 로컬 엔진으로 바로 추천 (0이면 사용 안 함)
+    private int fastPathMaxPeople = 0;
+    // 추천 결과 개수
+    private int resultCount = 3;
+}
@@ -0,0 +1,18 @@
+package com.ktb.submission.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.recommendation-cache")
+public class RecommendationCacheProperties {
+    // 같은 입력에 대한 LLM 추천 결과 유지 시간
+    private Duration ttl = Duration.ofHours(1);
+    // 최대 항목 수 (초과 시 최근/자주 쓰이지 않은 항목부터 제거)
+    private long maximumSize = 500;
+}
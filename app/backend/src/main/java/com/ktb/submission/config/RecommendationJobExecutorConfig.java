@@ -0,0 +1,23 @@
+package com.ktb.submission.config;
+
+import com.ktb.common.job.JobExecutors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RecommendationJobExecutorConfig {
+
+    /**
+     * 추천 작업 전용 실행기 (LLM 서버 보호)
+     */
+    @Bean(name = "recommendationJobExecutor")
+    public ThreadPoolTaskExecutor recommendationJobExecutor(
+            RecommendationJobProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return JobExecutors.bounded("recommendation-job-", properties.getCorePoolSize(), properties.getMaxPoolSize(),
+                properties.getQueueCapacity(), virtualThreads);
+    }
+}
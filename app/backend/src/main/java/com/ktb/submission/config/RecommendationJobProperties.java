@@ -0,0 +1,26 @@
+package com.ktb.submission.config;
+
+import com.ktb.common.job.JobProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대기열/보관/SSE 설정(queue-capacity, retention, maximum-jobs, sse-timeout)은 JobProperties 참고
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.job")
+public class RecommendationJobProperties extends JobProperties {
+    // 동시에 LLM 서버로 나가는 추천 작업 수 (GPU 서버 보호)
+    private int corePoolSize = 2;
+    private int maxPoolSize = 4;
+
+    public RecommendationJobProperties() {
+        setQueueCapacity(50);
+        setSseTimeout(Duration.ofMinutes(3));
+    }
+}
@@ -0,0 +1,15 @@
+package com.ktb.submission.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "submission.bulk-import")
+public class SubmissionImportProperties {
+    // 한 번에 가져올 수 있는 행 수 (초과 시 아무것도 저장하지 않고 400)
+    private int maxRows = 1000;
+}
@@ -1,17 +0,0 @@
-package com.ktb.submission.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.WebClient;
-
-@Configuration
-public class WebClientConfig {
-
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
-                .baseUrl("http://3.236.242.98:8000")
-                .build();
-    }
-
-}
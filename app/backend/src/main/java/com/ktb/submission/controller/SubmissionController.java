@@ -1,8 +1,14 @@
 package com.ktb.submission.controller;
 
 import com.ktb.auth.adapter.SecurityUserAccount;
+import com.ktb.submission.bulk.SubmissionImportParser;
 import com.ktb.submission.dto.FinalResponseDto;
 import com.ktb.submission.dto.request.SubmitRequest;
+import com.ktb.submission.dto.response.RecommendationJobResponse;
+import com.ktb.submission.dto.response.SubmissionImportResponse;
+import com.ktb.submission.job.RecommendationJob;
+import com.ktb.submission.service.RecommendationJobService;
+import com.ktb.submission.service.SubmissionImportService;
 import com.ktb.submission.service.SubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,14 +17,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "Submission", description = "제출 관리 API")
 @RestController
@@ -26,6 +40,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SubmissionController {
     private final SubmissionService submissionService;
+    private final RecommendationJobService recommendationJobService;
+    private final SubmissionImportService submissionImportService;
 
     @Operation(summary = "멤버 개별 제출", description = "그룹 멤버가 개별적으로 메뉴를 제출합니다. 총무는 닉네임 정보를 입력하지 않아도 됩니다.")
     @ApiResponses({
@@ -42,25 +58,96 @@ public class SubmissionController {
             @PathVariable Long groupId,
             @AuthenticationPrincipal SecurityUserAccount principal
             ) {
+        Long userId = null;
         if (principal != null && principal.getAccount() != null) {
             submission = submission.withNickname(principal.getAccount().getNickname());
+            userId = principal.getAccount().getId();
         }
-        submissionService.userSubmit(groupId, submission);
+        submissionService.userSubmit(groupId, userId, submission);
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "멤버 제출 일괄 가져오기", description = "총무가 멤버 제출을 CSV(text/csv, 헤더 포함) 또는 NDJSON(application/x-ndjson) 본문으로 한 번에 등록합니다. 행별 결과를 반환합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (거절된 행은 rows의 status로 확인)",
+                    content = @Content(schema = @Schema(implementation = SubmissionImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "파일을 읽을 수 없거나 행 수 상한 초과"),
+            @ApiResponse(responseCode = "404", description = "그룹이 없거나 총무가 아님"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 Content-Type")
+    })
+    @PostMapping(value = "/{groupId}/users/import",
+            consumes = {SubmissionImportParser.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<SubmissionImportResponse> importSubmissions(
+            @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @AuthenticationPrincipal SecurityUserAccount principal
+    ) {
+        // 본문은 InputStream으로 받아 파서가 한 행씩 읽는다
+        return ResponseEntity.ok(submissionImportService.importSubmissions(
+                groupId, principal.getAccount().getId(), MediaType.parseMediaType(contentType), body));
+    }
+
     @Operation(summary = "총무 통합 제출", description = "총무가 그룹의 모든 제출을 통합하여 프롬프트를 생성합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "통합 제출 성공",
                     content = @Content(schema = @Schema(implementation = FinalResponseDto.class))),
             @ApiResponse(responseCode = "404", description = "그룹을 찾을 수 없음"),
-            @ApiResponse(responseCode = "400", description = "모든 멤버가 제출하지 않음")
+            @ApiResponse(responseCode = "400", description = "모든 멤버가 제출하지 않음"),
+            @ApiResponse(responseCode = "503", description = "LLM 서버 장애로 요청 차단 (circuit open / 동시 요청 초과 / 시간 초과)")
     })
     @PostMapping("/total/{groupId}")
-    public ResponseEntity<FinalResponseDto> totalSubmit(
+    public Mono<ResponseEntity<FinalResponseDto>> totalSubmit(
+            @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId
+    ) {
+        // Places 검색/LLM 응답을 기다리는 동안 서블릿 스레드를 반납 (비동기 디스패치)
+        return submissionService.totalSubmitAsync(groupId)
+                .map(promptResponse -> ResponseEntity.ok().body(promptResponse));
+    }
+
+    @Operation(summary = "총무 통합 제출 (비동기 작업)", description = "추천 작업을 대기열에 넣고 작업 ID를 즉시 반환합니다. 같은 그룹의 작업이 진행 중이면 해당 작업을 반환합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 접수",
+                    content = @Content(schema = @Schema(implementation = RecommendationJobResponse.class))),
+            @ApiResponse(responseCode = "503", description = "작업 대기열이 가득 참")
+    })
+    @PostMapping("/total/{groupId}/jobs")
+    public ResponseEntity<RecommendationJobResponse> submitTotalJob(
             @Parameter(description = "그룹 ID", required = true) @PathVariable Long groupId
     ) {
-        FinalResponseDto promptResponse = submissionService.totalSubmit(groupId);
-        return ResponseEntity.ok().body(promptResponse);
+        RecommendationJob job = recommendationJobService.submit(groupId);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/submission/jobs/" + job.getId()))
+                .body(RecommendationJobResponse.from(job));
+    }
+
+    @Operation(summary = "추천 작업 상태 조회", description = "추천 작업의 상태와 완료 시 결과를 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RecommendationJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료 포함)")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<RecommendationJobResponse> getJob(
+            @Parameter(description = "작업 ID", required = true) @PathVariable String jobId
+    ) {
+        return recommendationJobService.findJob(jobId)
+                .map(job -> ResponseEntity.ok(RecommendationJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "추천 작업 결과 구독 (SSE)", description = "현재 상태를 status 이벤트로, 완료 시 결과를 result 이벤트로 전송합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 시작"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료 포함)")
+    })
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeJob(
+            @Parameter(description = "작업 ID", required = true) @PathVariable String jobId
+    ) {
+        return recommendationJobService.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 }
@@ -3,18 +3,23 @@ package com.ktb.submission.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import java.util.Date;
+import lombok.Getter;
 
+/**
+ * 제외 날짜 1건 = 1행인 기존 저장 형식 (읽기 전용)
+ * 새 제출은 Submission.excludedDateSet 비트맵 컬럼에 저장하고, 기존 행은 ExcludedDateBackfillRunner로 옮긴다.
+ */
 @Entity
+@Getter
 public class EventDate {
+    // 새 행을 만들지 않으므로 id 생성 전략이 필요 없다
     @Id
-    @GeneratedValue
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,12 +28,4 @@ public class EventDate {
 
     @Column(name = "date_value")
     private Date value;
-
-    protected static EventDate create(Submission submission, Date value) {
-        EventDate date = new EventDate();
-        date.submission = submission;
-        date.value = value;
-
-        return date;
-    }
 }
@@ -0,0 +1,145 @@
+package com.ktb.submission.domain;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 멤버 한 명의 제외 날짜 집합 (불변)
+ * 가장 이른 날짜를 기준일로 두고 bit i = 기준일 + i일인 비트맵으로 저장한다.
+ * 한 달을 통째로 막아도 4바이트라 제출 행 한 컬럼에 들어간다.
+ *
+ * 저장 형식: "v1:{기준일 epochDay}:{비트맵 base64url}" (빈 집합은 "v1:")
+ */
+public final class ExcludedDateSet {
+    public static final ExcludedDateSet EMPTY = new ExcludedDateSet(null, new BitSet());
+
+    // 제출 날짜는 한국 시간 자정(프론트엔드 toISOString) 또는 "yyyy-MM-dd"(UTC 자정)로 들어오므로
+    // 한국 시간 기준 날짜로 바꾸면 두 경우 모두 사용자가 고른 날짜가 된다
+    public static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final String FORMAT_PREFIX = "v1:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final LocalDate base;
+    private final BitSet days;
+
+    private ExcludedDateSet(LocalDate base, BitSet days) {
+        this.base = base;
+        this.days = days;
+    }
+
+    public static ExcludedDateSet of(Collection<Date> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return EMPTY;
+        }
+        return ofLocalDates(dates.stream().filter(Objects::nonNull).map(ExcludedDateSet::toLocalDate).toList());
+    }
+
+    public static ExcludedDateSet ofLocalDates(Collection<LocalDate> dates) {
+        LocalDate base = dates.stream().min(LocalDate::compareTo).orElse(null);
+        if (base == null) {
+            return EMPTY;
+        }
+        BitSet days = new BitSet();
+        dates.forEach(date -> days.set(Math.toIntExact(date.toEpochDay() - base.toEpochDay())));
+        return new ExcludedDateSet(base, days);
+    }
+
+    /**
+     * 가장 이른 날짜부터 가장 늦은 날짜까지의 일수 (양 끝 포함, 비어 있으면 0). 비트맵 크기가 이 값에 비례한다
+     */
+    public static long spanDays(Collection<Date> dates) {
+        if (dates == null) {
+            return 0;
+        }
+        LongSummaryStatistics epochDays = dates.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(date -> toLocalDate(date).toEpochDay())
+                .summaryStatistics();
+        return epochDays.getCount() == 0 ? 0 : epochDays.getMax() - epochDays.getMin() + 1;
+    }
+
+    public static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(SERVICE_ZONE).toLocalDate();
+    }
+
+    public boolean isEmpty() {
+        return base == null;
+    }
+
+    public int size() {
+        return days.cardinality();
+    }
+
+    public Stream<LocalDate> stream() {
+        if (isEmpty()) {
+            return Stream.empty();
+        }
+        return days.stream().mapToObj(base::plusDays);
+    }
+
+    public List<LocalDate> toLocalDates() {
+        return stream().toList();
+    }
+
+    // 기존 API(List<Date>)용: 한국 시간 자정
+    public List<Date> toDates() {
+        return stream()
+                .map(date -> Date.from(date.atStartOfDay(SERVICE_ZONE).toInstant()))
+                .toList();
+    }
+
+    public String encode() {
+        if (isEmpty()) {
+            return FORMAT_PREFIX;
+        }
+        return FORMAT_PREFIX + base.toEpochDay() + ":" + ENCODER.encodeToString(days.toByteArray());
+    }
+
+    public static ExcludedDateSet decode(String value) {
+        if (!value.startsWith(FORMAT_PREFIX)) {
+            throw new IllegalArgumentException("Unknown excluded date format: " + value);
+        }
+        String body = value.substring(FORMAT_PREFIX.length());
+        if (body.isEmpty()) {
+            return EMPTY;
+        }
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed excluded date value: " + value);
+        }
+        LocalDate base = LocalDate.ofEpochDay(Long.parseLong(body.substring(0, separator)));
+        BitSet days = BitSet.valueOf(DECODER.decode(body.substring(separator + 1)));
+        return days.isEmpty() ? EMPTY : new ExcludedDateSet(base, days);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExcludedDateSet other)) {
+            return false;
+        }
+        return Objects.equals(base, other.base) && days.equals(other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(base, days);
+    }
+
+    @Override
+    public String toString() {
+        return toLocalDates().toString();
+    }
+}
@@ -1,10 +1,10 @@
 package com.ktb.submission.domain;
 
 import com.ktb.group.domain.Group;
+import com.ktb.submission.domain.converter.ExcludedDateSetConverter;
 import jakarta.persistence.*;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_submission_nickname", columnNames = {"group_id", "nickname"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Submission {
@@ -42,8 +43,16 @@ public class Submission {
     @Column(name = "excluded_foods")
     private String excludedFoods;
 
+    // 제외 날짜 비트맵 (제출 행 한 컬럼). null이면 event_date 행으로 저장된 기존 제출
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = ExcludedDateSetConverter.class)
+    @Column(name = "excluded_dates", columnDefinition = "text")
+    private ExcludedDateSet excludedDateSet;
+
+    // 기존 저장 형식 (읽기 전용). ExcludedDateBackfillRunner로 옮긴 뒤에는 읽지 않는다
+    @Getter(AccessLevel.NONE)
     @OneToMany(mappedBy = "submission", fetch = FetchType.LAZY)
-    private List<EventDate> excludedDates;
+    private List<EventDate> legacyExcludedDates = new ArrayList<>();
 
     public static Submission create(
             Group group,
@@ -53,21 +62,35 @@ public class Submission {
             String excludedFoods,
             List<Date> excludedDates
     ) {
-        Submission submission = new Submission(null, group, nickname, preferredFoods, avoidedFoods, excludedFoods, Collections.EMPTY_LIST);
-
-        submission.createEventDate(excludedDates);
+        return new Submission(
+                null,
+                group,
+                nickname,
+                preferredFoods,
+                avoidedFoods,
+                excludedFoods,
+                ExcludedDateSet.of(excludedDates),
+                new ArrayList<>()
+        );
+    }
 
-        return submission;
+    public List<Date> getExcludedDates() {
+        if (excludedDateSet != null) {
+            return excludedDateSet.toDates();
+        }
+        return legacyExcludedDates.stream().map(EventDate::getValue).toList();
     }
 
-    private void createEventDate(List<Date> excludedDates) {
-        excludedDates.forEach(date -> {
-            addDate(this, date);
-        });
+    public boolean isExcludedDatesMigrated() {
+        return excludedDateSet != null;
     }
 
-    private static void addDate(Submission submission, Date value) {
-        EventDate eventDate = EventDate.create(submission, value);
-        submission.excludedDates.add(eventDate);
+    /**
+     * event_date 행으로 저장된 기존 제출을 비트맵 컬럼으로 옮긴다 (이미 옮긴 제출은 그대로)
+     */
+    public void migrateExcludedDates(List<Date> legacyDates) {
+        if (excludedDateSet == null) {
+            excludedDateSet = ExcludedDateSet.of(legacyDates);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package com.ktb.submission.domain.converter;
+
+import com.ktb.submission.domain.ExcludedDateSet;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 제외 날짜 비트맵 ↔ 문자열 컬럼
+ * 컬럼이 null인 행은 아직 event_date에서 옮기지 않은 기존 제출이므로 null 그대로 둔다.
+ */
+@Converter
+public class ExcludedDateSetConverter implements AttributeConverter<ExcludedDateSet, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ExcludedDateSet attribute) {
+        return (attribute == null) ? null : attribute.encode();
+    }
+
+    @Override
+    public ExcludedDateSet convertToEntityAttribute(String dbData) {
+        return (dbData == null) ? null : ExcludedDateSet.decode(dbData);
+    }
+}
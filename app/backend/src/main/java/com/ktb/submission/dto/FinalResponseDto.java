@@ -2,6 +2,7 @@ package com.ktb.submission.dto;
 
 import com.ktb.submission.dto.response.AiGenerateResponse;
 import com.ktb.submission.dto.response.FinalDateResult;
+import com.ktb.submission.recommend.RecommendationSource;
 import lombok.Getter;
 
 
@@ -12,9 +13,17 @@ public class FinalResponseDto {
 
     FinalDateResult finalDateResult;
 
-    public FinalResponseDto(AiGenerateResponse aiGenerateResponse, FinalDateResult finalDateResult){
+    // 추천 캐시에서 반환된 결과인지 여부
+    boolean cached;
+
+    // 추천 결과를 만든 주체 (LLM / 로컬 fast path / LLM 장애 시 로컬 대체)
+    RecommendationSource source;
+
+    public FinalResponseDto(AiGenerateResponse aiGenerateResponse, FinalDateResult finalDateResult, boolean cached, RecommendationSource source){
         this.aiGenerateResponse = aiGenerateResponse;
         this.finalDateResult = finalDateResult;
+        this.cached = cached;
+        this.source = source;
     }
 
 
@@ -1,14 +1,77 @@
 package com.ktb.submission.dto;
 
+import com.ktb.group.domain.FoodTerms;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 
-import java.util.ArrayList;
-
+/**
+ * 그룹 전체 제출의 음식 선호 집계 (키워드 → 입력한 멤버 수)
+ */
 @Getter
 public class TotalUserSubmission {
-    ArrayList<String> likedFoodsList = new ArrayList<>();
+    int submissionCount;
+
+    Map<String, Integer> likedTerms;
+
+    Map<String, Integer> avoidedTerms;
+
+    Map<String, Integer> forbiddenTerms;
+
+    public TotalUserSubmission() {
+        this(0, Map.of(), Map.of(), Map.of());
+    }
+
+    public TotalUserSubmission(
+            int submissionCount,
+            Map<String, Integer> likedTerms,
+            Map<String, Integer> avoidedTerms,
+            Map<String, Integer> forbiddenTerms
+    ) {
+        this.submissionCount = submissionCount;
+        this.likedTerms = likedTerms;
+        this.avoidedTerms = avoidedTerms;
+        this.forbiddenTerms = forbiddenTerms;
+    }
+
+    public static TotalUserSubmission from(GroupPreferenceAggregate aggregate) {
+        return new TotalUserSubmission(
+                aggregate.getSubmissionCount(),
+                aggregate.getLikedTerms(),
+                aggregate.getAvoidedTerms(),
+                aggregate.getForbiddenTerms()
+        );
+    }
+
+    /**
+     * 멤버별 입력("치킨,피자") 목록으로 집계
+     */
+    public static TotalUserSubmission of(List<String> likedFoods, List<String> avoidedFoods, List<String> forbiddenFoods) {
+        int submissionCount = Math.max(likedFoods.size(), Math.max(avoidedFoods.size(), forbiddenFoods.size()));
+        return new TotalUserSubmission(
+                submissionCount,
+                FoodTerms.frequencies(likedFoods),
+                FoodTerms.frequencies(avoidedFoods),
+                FoodTerms.frequencies(forbiddenFoods)
+        );
+    }
+
+    // LLM 요청용 선호 키워드 (많이 입력된 순)
+    public List<String> likedFoods() {
+        return byFrequency(likedTerms);
+    }
 
-    ArrayList<String> disLikedFoodsList= new ArrayList<>();
+    public List<String> avoidedFoods() {
+        return byFrequency(avoidedTerms);
+    }
 
-    ArrayList<String> forbiddenFoodsList= new ArrayList<>();
+    private static List<String> byFrequency(Map<String, Integer> terms) {
+        return terms.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
 }
@@ -0,0 +1,28 @@
+package com.ktb.submission.dto.response;
+
+import com.ktb.common.job.JobStatus;
+import com.ktb.submission.dto.FinalResponseDto;
+import com.ktb.submission.job.RecommendationJob;
+import java.time.Instant;
+
+public record RecommendationJobResponse(
+        String jobId,
+        Long groupId,
+        JobStatus status,
+        FinalResponseDto result,
+        String errorMessage,
+        Instant createdAt,
+        Instant completedAt
+) {
+    public static RecommendationJobResponse from(RecommendationJob job) {
+        return new RecommendationJobResponse(
+                job.getId(),
+                job.getGroupId(),
+                job.getStatus(),
+                job.getResult(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.submission.dto.response;
+
+import com.ktb.submission.bulk.ImportRowStatus;
+import java.util.List;
+
+public record SubmissionImportResponse(
+        int imported,
+        int rejected,
+        int submitCount,
+        int maxCapacity,
+        List<SubmissionImportRowResult> rows
+) {
+    public static SubmissionImportResponse of(List<SubmissionImportRowResult> rows, int submitCount, int maxCapacity) {
+        int imported = (int) rows.stream()
+                .filter(row -> row.status() == ImportRowStatus.IMPORTED)
+                .count();
+        return new SubmissionImportResponse(imported, rows.size() - imported, submitCount, maxCapacity, rows);
+    }
+}
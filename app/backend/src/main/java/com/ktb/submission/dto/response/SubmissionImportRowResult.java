@@ -0,0 +1,15 @@
+package com.ktb.submission.dto.response;
+
+import com.ktb.submission.bulk.ImportRow;
+import com.ktb.submission.bulk.ImportRowStatus;
+
+public record SubmissionImportRowResult(
+        int row,
+        String nickname,
+        ImportRowStatus status,
+        String message
+) {
+    public static SubmissionImportRowResult of(ImportRow row, ImportRowStatus status, String message) {
+        return new SubmissionImportRowResult(row.row(), row.nickname(), status, message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ktb.submission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidExcludedDatesException extends RuntimeException {
+    public InvalidExcludedDatesException() {
+        super();
+    }
+
+    public InvalidExcludedDatesException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ktb.submission.exception;
+
+import com.ktb.common.job.JobRejectedException;
+
+public class RecommendationJobRejectedException extends JobRejectedException {
+    public RecommendationJobRejectedException(String message) {
+        super(message);
+    }
+}
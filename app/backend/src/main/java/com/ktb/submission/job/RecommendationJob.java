@@ -0,0 +1,21 @@
+package com.ktb.submission.job;
+
+import com.ktb.common.job.AsyncJob;
+import com.ktb.submission.dto.FinalResponseDto;
+import lombok.Getter;
+
+/**
+ * 총무 통합 제출(LLM 추천) 비동기 작업
+ */
+@Getter
+public class RecommendationJob extends AsyncJob<FinalResponseDto, RecommendationJob> {
+    private final Long groupId;
+
+    private RecommendationJob(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public static RecommendationJob create(Long groupId) {
+        return new RecommendationJob(groupId);
+    }
+}
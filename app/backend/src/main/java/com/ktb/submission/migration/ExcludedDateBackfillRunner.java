@@ -0,0 +1,76 @@
+package com.ktb.submission.migration;
+
+import com.ktb.submission.config.ExcludedDateMigrationProperties;
+import com.ktb.submission.domain.EventDate;
+import com.ktb.submission.domain.Submission;
+import com.ktb.submission.repository.EventDateRepository;
+import com.ktb.submission.repository.SubmissionRepository;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * event_date 행(날짜 1건 = 1행)으로 저장된 기존 제출을 submission.excluded_dates 비트맵으로 옮긴다.
+ * 배치마다 트랜잭션을 나누고 id 순으로 진행하므로 중간에 멈춰도 다시 실행하면 이어서 처리한다.
+ * 모두 옮긴 뒤에는 event_date 테이블을 지워도 된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "submission.migration", name = "excluded-dates-backfill", havingValue = "true")
+public class ExcludedDateBackfillRunner implements ApplicationRunner {
+    private final SubmissionRepository submissionRepository;
+    private final EventDateRepository eventDateRepository;
+    private final ExcludedDateMigrationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExcludedDateBackfillRunner(
+            SubmissionRepository submissionRepository,
+            EventDateRepository eventDateRepository,
+            ExcludedDateMigrationProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.submissionRepository = submissionRepository;
+        this.eventDateRepository = eventDateRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[Migration] backfilling submission.excluded_dates from event_date");
+        long migrated = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids = submissionRepository.findUnmigratedExcludedDateIds(
+                    afterId, PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> migrate(ids));
+            migrated += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("[Migration] backfilled excluded dates of {} submissions", migrated);
+    }
+
+    private void migrate(List<Long> ids) {
+        Map<Long, List<Date>> datesBySubmission = eventDateRepository.findAllBySubmission_IdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        eventDate -> eventDate.getSubmission().getId(),
+                        Collectors.mapping(EventDate::getValue, Collectors.toList())
+                ));
+
+        for (Submission submission : submissionRepository.findAllById(ids)) {
+            submission.migrateExcludedDates(datesBySubmission.getOrDefault(submission.getId(), List.of()));
+        }
+    }
+}
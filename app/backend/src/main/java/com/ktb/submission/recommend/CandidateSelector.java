@@ -0,0 +1,132 @@
+package com.ktb.submission.recommend;
+
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import com.ktb.submission.config.CandidateSelectionProperties;
+import com.ktb.submission.dto.TotalUserSubmission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 요청 전에 후보 식당을 줄이는 단계 (프롬프트 길이 = LLM 지연/비용)
+ * 1. 못 먹는 음식(excludedFoods)과 일치하는 후보 제외
+ * 2. 시작 가격이 1인 예산을 크게 넘는 후보 제외
+ * 3. calcRating 순 top-K (primaryType별 개수 제한으로 다양성 확보)
+ */
+@Slf4j
+@Component
+public class CandidateSelector {
+    private static final Comparator<PlaceSummaryDto> BY_CALC_RATING = Comparator.comparingDouble(
+            (PlaceSummaryDto place) -> place.calcRating() == null ? 0 : place.calcRating()).reversed();
+
+    private final CandidateSelectionProperties properties;
+
+    // recommendation.candidates.pruned{stage=excluded|budget|top_k}
+    private final Counter excludedPruned;
+    private final Counter budgetPruned;
+    private final Counter topKPruned;
+
+    public CandidateSelector(CandidateSelectionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.excludedPruned = prunedCounter(meterRegistry, "excluded");
+        this.budgetPruned = prunedCounter(meterRegistry, "budget");
+        this.topKPruned = prunedCounter(meterRegistry, "top_k");
+    }
+
+    public List<PlaceSummaryDto> select(List<PlaceSummaryDto> candidates, TotalUserSubmission total, int budgetPerPerson) {
+        List<PlaceSummaryDto> allowed = excludeForbidden(candidates, total);
+        List<PlaceSummaryDto> affordable = filterByBudget(allowed, budgetPerPerson);
+        List<PlaceSummaryDto> selected = topK(affordable);
+
+        excludedPruned.increment(candidates.size() - allowed.size());
+        budgetPruned.increment(allowed.size() - affordable.size());
+        topKPruned.increment(affordable.size() - selected.size());
+        log.info("[Candidates] {} -> excluded {} -> budget {} -> top-K {}",
+                candidates.size(), allowed.size(), affordable.size(), selected.size());
+        return selected;
+    }
+
+    private static List<PlaceSummaryDto> excludeForbidden(List<PlaceSummaryDto> candidates, TotalUserSubmission total) {
+        Set<String> forbidden = total.getForbiddenTerms().keySet();
+        return candidates.stream()
+                .filter(place -> place.displayName() != null)
+                .filter(place -> FoodKeywordMatcher.firstExcludedMatch(forbidden, place) == null)
+                .toList();
+    }
+
+    private List<PlaceSummaryDto> filterByBudget(List<PlaceSummaryDto> candidates, int budgetPerPerson) {
+        if (budgetPerPerson <= 0) {
+            return candidates;
+        }
+        double limit = budgetPerPerson * properties.getBudgetTolerance();
+        List<PlaceSummaryDto> affordable = candidates.stream()
+                .filter(place -> {
+                    Integer startPrice = startPrice(place.priceRange());
+                    // 가격 정보가 없으면 판단할 수 없으므로 남긴다
+                    return startPrice == null || startPrice <= limit;
+                })
+                .toList();
+        // 전부 예산 초과면 추천이 비지 않도록 예산 필터를 적용하지 않음
+        return affordable.isEmpty() ? candidates : affordable;
+    }
+
+    private List<PlaceSummaryDto> topK(List<PlaceSummaryDto> candidates) {
+        int maxCandidates = properties.getMaxCandidates();
+        if (candidates.size() <= maxCandidates) {
+            return candidates;
+        }
+
+        List<PlaceSummaryDto> sorted = new ArrayList<>(candidates);
+        sorted.sort(BY_CALC_RATING);
+
+        List<PlaceSummaryDto> selected = new ArrayList<>(maxCandidates);
+        List<PlaceSummaryDto> overflow = new ArrayList<>();
+        Map<String, Integer> perType = new HashMap<>();
+        for (PlaceSummaryDto place : sorted) {
+            if (selected.size() == maxCandidates) {
+                break;
+            }
+            String type = place.primaryType() == null ? "" : place.primaryType();
+            if (perType.merge(type, 1, Integer::sum) <= properties.getMaxPerPrimaryType()) {
+                selected.add(place);
+            } else {
+                overflow.add(place);
+            }
+        }
+        // 종류 제한 때문에 K개를 못 채우면 평점 순으로 채움
+        for (PlaceSummaryDto place : overflow) {
+            if (selected.size() == maxCandidates) {
+                break;
+            }
+            selected.add(place);
+        }
+        selected.sort(BY_CALC_RATING);
+        return selected;
+    }
+
+    // priceRange.startPrice.units (원 단위 문자열), 없거나 숫자가 아니면 null
+    static Integer startPrice(NearbySearchResponse.PriceRange priceRange) {
+        if (priceRange == null || priceRange.startPrice() == null || priceRange.startPrice().units() == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(priceRange.startPrice().units());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Counter prunedCounter(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("recommendation.candidates.pruned")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
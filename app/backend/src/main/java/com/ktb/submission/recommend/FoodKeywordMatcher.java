@@ -0,0 +1,131 @@
+package com.ktb.submission.recommend;
+
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 멤버가 입력한 음식 키워드(preferredFoods/avoidedFoods/excludedFoods, FoodTerms로 정규화)와
+ * 후보 식당의 primaryType/displayName을 비교한다.
+ * 한글 키워드는 Google Places primaryType으로 매핑해서 비교하고, 그 외에는 부분 문자열로 비교한다.
+ * 선호/비선호 점수에는 넓은 매핑을, 후보를 아예 빼는 못 먹는 음식에는 좁은 매핑을 쓴다.
+ */
+public final class FoodKeywordMatcher {
+
+    // 점수용: 키워드와 관련 있는 업종 전체
+    private static final Map<String, Set<String>> PRIMARY_TYPES_BY_KEYWORD = Map.ofEntries(
+            Map.entry("한식", Set.of("korean_restaurant", "korean_barbecue_restaurant")),
+            Map.entry("고기", Set.of("korean_barbecue_restaurant", "barbecue_restaurant", "steak_house")),
+            Map.entry("삼겹살", Set.of("korean_barbecue_restaurant", "barbecue_restaurant")),
+            Map.entry("중식", Set.of("chinese_restaurant")),
+            Map.entry("중국", Set.of("chinese_restaurant")),
+            Map.entry("일식", Set.of("japanese_restaurant", "sushi_restaurant", "ramen_restaurant")),
+            Map.entry("초밥", Set.of("sushi_restaurant", "japanese_restaurant")),
+            Map.entry("스시", Set.of("sushi_restaurant", "japanese_restaurant")),
+            Map.entry("라멘", Set.of("ramen_restaurant")),
+            Map.entry("양식", Set.of("italian_restaurant", "american_restaurant", "steak_house", "french_restaurant")),
+            Map.entry("파스타", Set.of("italian_restaurant")),
+            Map.entry("스테이크", Set.of("steak_house")),
+            Map.entry("피자", Set.of("pizza_restaurant")),
+            Map.entry("치킨", Set.of("chicken_restaurant")),
+            Map.entry("햄버거", Set.of("hamburger_restaurant", "fast_food_restaurant")),
+            Map.entry("버거", Set.of("hamburger_restaurant", "fast_food_restaurant")),
+            Map.entry("해산물", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("회", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("생선", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("쌀국수", Set.of("vietnamese_restaurant")),
+            Map.entry("베트남", Set.of("vietnamese_restaurant")),
+            Map.entry("태국", Set.of("thai_restaurant")),
+            Map.entry("인도", Set.of("indian_restaurant")),
+            Map.entry("카레", Set.of("indian_restaurant")),
+            Map.entry("멕시코", Set.of("mexican_restaurant")),
+            Map.entry("타코", Set.of("mexican_restaurant")),
+            Map.entry("분식", Set.of("korean_restaurant", "fast_food_restaurant")),
+            Map.entry("카페", Set.of("cafe", "coffee_shop")),
+            Map.entry("디저트", Set.of("dessert_shop", "bakery", "cafe")),
+            Map.entry("술집", Set.of("bar", "pub")),
+            Map.entry("비건", Set.of("vegan_restaurant", "vegetarian_restaurant"))
+    );
+
+    // 제외용: 그 업종이면 거의 확실히 해당 음식을 파는 경우만 매핑 (분식→korean_restaurant처럼
+    // 한 요리 전체를 지우는 매핑은 넣지 않음). 여기 없는 키워드는 primaryType/이름 부분 일치로만 제외
+    private static final Map<String, Set<String>> EXCLUDED_PRIMARY_TYPES_BY_KEYWORD = Map.ofEntries(
+            Map.entry("한식", Set.of("korean_restaurant", "korean_barbecue_restaurant")),
+            Map.entry("고기", Set.of("korean_barbecue_restaurant", "barbecue_restaurant", "steak_house")),
+            Map.entry("중식", Set.of("chinese_restaurant")),
+            Map.entry("중국", Set.of("chinese_restaurant")),
+            Map.entry("일식", Set.of("japanese_restaurant", "sushi_restaurant", "ramen_restaurant")),
+            Map.entry("초밥", Set.of("sushi_restaurant")),
+            Map.entry("스시", Set.of("sushi_restaurant")),
+            Map.entry("라멘", Set.of("ramen_restaurant")),
+            Map.entry("양식", Set.of("italian_restaurant", "french_restaurant")),
+            Map.entry("스테이크", Set.of("steak_house")),
+            Map.entry("피자", Set.of("pizza_restaurant")),
+            Map.entry("치킨", Set.of("chicken_restaurant")),
+            Map.entry("햄버거", Set.of("hamburger_restaurant")),
+            Map.entry("버거", Set.of("hamburger_restaurant")),
+            // 알레르기 가능성이 있어 초밥집까지 제외
+            Map.entry("해산물", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("회", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("생선", Set.of("seafood_restaurant", "sushi_restaurant")),
+            Map.entry("쌀국수", Set.of("vietnamese_restaurant")),
+            Map.entry("베트남", Set.of("vietnamese_restaurant")),
+            Map.entry("태국", Set.of("thai_restaurant")),
+            Map.entry("인도", Set.of("indian_restaurant")),
+            Map.entry("멕시코", Set.of("mexican_restaurant")),
+            Map.entry("타코", Set.of("mexican_restaurant")),
+            Map.entry("카페", Set.of("cafe", "coffee_shop")),
+            Map.entry("디저트", Set.of("dessert_shop")),
+            Map.entry("술집", Set.of("bar", "pub")),
+            Map.entry("비건", Set.of("vegan_restaurant", "vegetarian_restaurant"))
+    );
+
+    private FoodKeywordMatcher() {
+    }
+
+    /**
+     * 정규화된 키워드가 후보 식당과 일치하는지 (primaryType 매핑 → primaryType/displayName 부분 문자열)
+     */
+    public static boolean matches(String keyword, PlaceSummaryDto place) {
+        return matches(keyword, place, PRIMARY_TYPES_BY_KEYWORD);
+    }
+
+    /**
+     * 못 먹는 음식 키워드로 후보를 제외해야 하는지 (좁은 primaryType 매핑 → primaryType/displayName 부분 문자열)
+     */
+    public static boolean matchesExcluded(String keyword, PlaceSummaryDto place) {
+        return matches(keyword, place, EXCLUDED_PRIMARY_TYPES_BY_KEYWORD);
+    }
+
+    /**
+     * 후보 식당을 제외하게 만드는 첫 못 먹는 음식 키워드, 없으면 null
+     */
+    public static String firstExcludedMatch(Collection<String> keywords, PlaceSummaryDto place) {
+        for (String keyword : keywords) {
+            if (matchesExcluded(keyword, place)) {
+                return keyword;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String keyword, PlaceSummaryDto place, Map<String, Set<String>> primaryTypesByKeyword) {
+        String primaryType = place.primaryType();
+        if (primaryType != null) {
+            Set<String> mapped = primaryTypesByKeyword.get(keyword);
+            if (mapped != null && mapped.contains(primaryType)) {
+                return true;
+            }
+            if (primaryType.contains(keyword)) {
+                return true;
+            }
+        }
+        // 한 글자 키워드("회")는 이름 부분 일치 오탐("회관")이 많아 primaryType 매핑으로만 비교
+        String displayName = place.displayName();
+        return keyword.length() > 1
+                && displayName != null
+                && displayName.toLowerCase(Locale.ROOT).contains(keyword);
+    }
+}
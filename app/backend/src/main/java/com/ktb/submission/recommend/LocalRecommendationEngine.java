@@ -0,0 +1,135 @@
+package com.ktb.submission.recommend;
+
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import com.ktb.submission.config.LocalRecommendationProperties;
+import com.ktb.submission.dto.TotalUserSubmission;
+import com.ktb.submission.dto.response.AiRecommendation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 없이 후보 식당을 점수화해 추천하는 결정적(deterministic) 엔진
+ * 점수 = Bayesian 평점(calcRating) + 선호 메뉴 일치 멤버 비율 - 비선호 일치 멤버 비율 + 예산 적합도 + 단체석 여부
+ * (멤버 비율은 일치한 키워드 중 가장 많이 입력된 키워드의 멤버 수 / 제출 수)
+ * 못 먹는 음식(excludedFoods)과 일치하는 후보는 제외한다. 후보 20개 기준 1ms 미만.
+ */
+@Component
+public class LocalRecommendationEngine {
+    private static final double MAX_RATING = 5.0;
+    private static final double RATING_WEIGHT = 1.0;
+    private static final double LIKED_WEIGHT = 0.6;
+    private static final double AVOIDED_WEIGHT = 0.8;
+    private static final double BUDGET_WEIGHT = 0.3;
+    private static final double GROUP_WEIGHT = 0.2;
+    // 이 인원 이상이면 goodForGroups 가점
+    private static final int GROUP_SIZE_THRESHOLD = 4;
+
+    private final LocalRecommendationProperties properties;
+
+    public LocalRecommendationEngine(LocalRecommendationProperties properties) {
+        this.properties = properties;
+    }
+
+    public List<AiRecommendation> recommend(
+            List<PlaceSummaryDto> candidates,
+            TotalUserSubmission total,
+            int people,
+            int budgetPerPerson
+    ) {
+        Set<String> forbidden = total.getForbiddenTerms().keySet();
+
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (PlaceSummaryDto place : candidates) {
+            if (place.displayName() == null || FoodKeywordMatcher.firstExcludedMatch(forbidden, place) != null) {
+                continue;
+            }
+            scored.add(score(place, total, people, budgetPerPerson));
+        }
+
+        return scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(Scored::ratingCount, Comparator.reverseOrder()))
+                .limit(properties.getResultCount())
+                .map(s -> new AiRecommendation(s.place().displayName(), String.join(" · ", s.reasons())))
+                .toList();
+    }
+
+    private Scored score(
+            PlaceSummaryDto place,
+            TotalUserSubmission total,
+            int people,
+            int budgetPerPerson
+    ) {
+        List<String> reasons = new ArrayList<>(4);
+        double score = 0;
+
+        double calcRating = place.calcRating() == null ? 0 : place.calcRating();
+        score += RATING_WEIGHT * calcRating / MAX_RATING;
+        if (place.rating() != null) {
+            reasons.add(String.format("평점 %.1f (리뷰 %d개)", place.rating(),
+                    place.userRatingCount() == null ? 0 : place.userRatingCount()));
+        }
+
+        int submissionCount = total.getSubmissionCount();
+        Overlap liked = overlap(total.getLikedTerms(), submissionCount, place);
+        if (liked.members() > 0) {
+            score += LIKED_WEIGHT * liked.members() / submissionCount;
+            reasons.add(String.format("선호 메뉴 '%s' 일치 (%d/%d명)", liked.keyword(), liked.members(), submissionCount));
+        }
+
+        Overlap avoided = overlap(total.getAvoidedTerms(), submissionCount, place);
+        if (avoided.members() > 0) {
+            score -= AVOIDED_WEIGHT * avoided.members() / submissionCount;
+            reasons.add(String.format("비선호 메뉴 '%s' 포함 (%d명)", avoided.keyword(), avoided.members()));
+        }
+
+        Integer startPrice = CandidateSelector.startPrice(place.priceRange());
+        if (budgetPerPerson > 0 && startPrice != null) {
+            if (startPrice <= budgetPerPerson) {
+                score += BUDGET_WEIGHT;
+                reasons.add("1인 예산 이내");
+            } else {
+                score -= BUDGET_WEIGHT * Math.min(1.0, (double) (startPrice - budgetPerPerson) / budgetPerPerson);
+                reasons.add("1인 예산 초과 가능");
+            }
+        }
+
+        if (people >= GROUP_SIZE_THRESHOLD && Boolean.TRUE.equals(place.goodForGroups())) {
+            score += GROUP_WEIGHT;
+            reasons.add("단체 모임에 적합");
+        }
+
+        int ratingCount = place.userRatingCount() == null ? 0 : place.userRatingCount();
+        return new Scored(place, score, ratingCount, reasons);
+    }
+
+    // 후보와 일치하는 키워드 중 가장 많은 멤버가 입력한 키워드와 그 멤버 수
+    private static Overlap overlap(Map<String, Integer> terms, int submissionCount, PlaceSummaryDto place) {
+        if (submissionCount <= 0) {
+            return new Overlap(null, 0);
+        }
+        String keyword = null;
+        int members = 0;
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            int count = term.getValue();
+            // 멤버 수가 같으면 사전순으로 골라 결과를 결정적으로 유지
+            boolean better = count > members
+                    || (count == members && keyword != null && term.getKey().compareTo(keyword) < 0);
+            if (better && FoodKeywordMatcher.matches(term.getKey(), place)) {
+                keyword = term.getKey();
+                members = count;
+            }
+        }
+        return new Overlap(keyword, Math.min(members, submissionCount));
+    }
+
+    private record Overlap(String keyword, int members) {
+    }
+
+    private record Scored(PlaceSummaryDto place, double score, int ratingCount, List<String> reasons) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.ktb.submission.recommend;
+
+/**
+ * 추천 결과를 만든 주체
+ */
+public enum RecommendationSource {
+    // Python LLM 서버 (/generate)
+    LLM,
+    // 소규모 그룹 fast path (LocalRecommendationEngine)
+    LOCAL,
+    // LLM 서버 장애(circuit open 등)로 대체한 결과 (LocalRecommendationEngine)
+    LOCAL_FALLBACK
+}
@@ -0,0 +1,11 @@
+package com.ktb.submission.repository;
+
+import com.ktb.submission.domain.EventDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EventDateRepository extends JpaRepository<EventDate, Long> {
+    List<EventDate> findAllBySubmission_IdIn(Collection<Long> submissionIds);
+}
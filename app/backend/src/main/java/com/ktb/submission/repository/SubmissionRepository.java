@@ -1,13 +1,31 @@
 package com.ktb.submission.repository;
 
 import com.ktb.submission.domain.Submission;
-import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     List<Submission> findAllByGroupId(Long groupId);
 
-    Optional<Submission> findByNickname(String nickname);
+    // 트랜잭션 밖에서 제외 날짜를 읽는 경로용: 이전 전 제출의 event_date 행까지 한 번에 조회
+    @EntityGraph(attributePaths = "legacyExcludedDates")
+    @Query("select s from Submission s where s.group.id = :groupId")
+    List<Submission> findAllWithExcludedDatesByGroupId(@Param("groupId") Long groupId);
+
+    // (group_id, nickname) 유니크 키로 그룹 내 중복 제출 확인
+    boolean existsByGroupIdAndNickname(Long groupId, String nickname);
+
+    // 일괄 가져오기: 이미 제출한 닉네임을 한 번에 확인
+    @Query("select s.nickname from Submission s where s.group.id = :groupId and s.nickname in :nicknames")
+    List<String> findSubmittedNicknames(@Param("groupId") Long groupId, @Param("nicknames") Collection<String> nicknames);
+
+    // 제외 날짜를 아직 event_date 행으로만 가진 기존 제출 (id 순 keyset 페이지)
+    @Query("select s.id from Submission s where s.excludedDateSet is null and s.id > :afterId order by s.id")
+    List<Long> findUnmigratedExcludedDateIds(@Param("afterId") Long afterId, Pageable pageable);
 }
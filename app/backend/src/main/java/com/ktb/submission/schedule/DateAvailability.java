@@ -0,0 +1,98 @@
+package com.ktb.submission.schedule;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 그룹 날짜 범위를 일 단위 인덱스로 펼친 가용성 표
+ * 불가능한 날짜는 BitSet에 OR로 누적하고, 날짜별 불참 인원은 같은 인덱스의 int 배열에 센다.
+ * 범위 밖 날짜는 무시한다.
+ */
+public class DateAvailability {
+    private final LocalDate start;
+    private final int days;
+    private final BitSet blocked;
+    private final int[] conflicts;
+
+    public DateAvailability(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("end must not be before start: " + start + " ~ " + end);
+        }
+        this.start = start;
+        this.days = Math.toIntExact(ChronoUnit.DAYS.between(start, end)) + 1;
+        this.blocked = new BitSet(days);
+        this.conflicts = new int[days];
+    }
+
+    /**
+     * 멤버 한 명의 불가능한 날짜 (같은 날짜가 중복돼도 1명으로 센다)
+     */
+    public void excludeMember(Collection<LocalDate> excludedDates) {
+        BitSet member = new BitSet(days);
+        excludedDates.forEach(date -> {
+            int index = indexOf(date);
+            if (index >= 0) {
+                member.set(index);
+            }
+        });
+        blocked.or(member);
+        for (int i = member.nextSetBit(0); i >= 0; i = member.nextSetBit(i + 1)) {
+            conflicts[i]++;
+        }
+    }
+
+    /**
+     * 이미 집계된 날짜별 불참 인원 (GroupPreferenceAggregate.excludedDateCounts)
+     */
+    public void exclude(LocalDate date, int members) {
+        int index = indexOf(date);
+        if (index < 0 || members <= 0) {
+            return;
+        }
+        blocked.set(index);
+        conflicts[index] += members;
+    }
+
+    public int freeDayCount() {
+        return days - blocked.cardinality();
+    }
+
+    /**
+     * 전원 가능한 날짜(날짜순)를 먼저, 모자라면 불참 인원이 적은 날짜(같으면 날짜순)로 채운다.
+     */
+    public List<RankedDay> rank(int limit) {
+        List<RankedDay> ranked = new ArrayList<>(Math.min(limit, days));
+        for (int i = blocked.nextClearBit(0); i < days && ranked.size() < limit; i = blocked.nextClearBit(i + 1)) {
+            ranked.add(new RankedDay(start.plusDays(i), 0));
+        }
+        if (ranked.size() == limit) {
+            return ranked;
+        }
+
+        // (불참 인원 << 32 | 인덱스)를 정렬하면 불참 인원, 날짜 순서가 된다
+        long[] keys = new long[blocked.cardinality()];
+        int n = 0;
+        for (int i = blocked.nextSetBit(0); i >= 0; i = blocked.nextSetBit(i + 1)) {
+            keys[n++] = ((long) conflicts[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        for (int k = 0; k < keys.length && ranked.size() < limit; k++) {
+            int index = (int) keys[k];
+            ranked.add(new RankedDay(start.plusDays(index), conflicts[index]));
+        }
+        return ranked;
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(start, date);
+        return (index < 0 || index >= days) ? -1 : (int) index;
+    }
+
+    public record RankedDay(LocalDate date, int conflicts) {
+    }
+}
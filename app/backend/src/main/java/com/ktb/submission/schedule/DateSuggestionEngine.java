@@ -0,0 +1,79 @@
+package com.ktb.submission.schedule;
+
+import com.ktb.group.domain.Group;
+import com.ktb.submission.config.DateSuggestionProperties;
+import com.ktb.submission.domain.ExcludedDateSet;
+import com.ktb.submission.dto.response.DateResult;
+import com.ktb.submission.dto.response.FinalDateResult;
+import com.ktb.submission.exception.InvalidExcludedDatesException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 날짜 범위에서 모두가 가능한 날짜(없으면 불참이 가장 적은 날짜)를 골라 FinalDateResult로 만든다.
+ * 입력은 그룹 집계의 날짜별 불참 인원이라 통합 제출 시 추가 쿼리가 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DateSuggestionEngine {
+    private final DateSuggestionProperties properties;
+
+    /**
+     * @return 날짜를 정하지 않는 그룹이면 null
+     */
+    public FinalDateResult suggest(Group group, Map<LocalDate, Integer> excludedDateCounts, int memberCount) {
+        if (!group.isHasScheduledDate() || group.getStartDate() == null || group.getEndDate() == null) {
+            return null;
+        }
+
+        LocalDate start = toWindowDate(group.getStartDate());
+        LocalDate end = toWindowDate(group.getEndDate());
+        if (end.isBefore(start)) {
+            return new FinalDateResult(List.of());
+        }
+        LocalDate lastAllowed = start.plusDays(properties.getMaxWindowDays() - 1L);
+        if (end.isAfter(lastAllowed)) {
+            end = lastAllowed;
+        }
+
+        DateAvailability availability = new DateAvailability(start, end);
+        excludedDateCounts.forEach(availability::exclude);
+
+        return new FinalDateResult(availability.rank(properties.getResultCount()).stream()
+                .map(day -> new DateResult(day.date().toString(), describe(day, memberCount)))
+                .toList());
+    }
+
+    /**
+     * 빈 날짜(null)가 있거나 제외 날짜 범위(가장 이른 날 ~ 가장 늦은 날)가 그룹 날짜 범위 상한(max-window-days)을 넘으면
+     * InvalidExcludedDatesException. 상한 밖 날짜는 추천에 쓰이지 않고 제출 행의 비트맵만 키우므로 저장 전에 거절한다.
+     */
+    public void validateExcludedDates(Collection<Date> excludedDates) {
+        if (excludedDates != null && excludedDates.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidExcludedDatesException("제외 날짜에 빈 값이 있습니다.");
+        }
+        if (ExcludedDateSet.spanDays(excludedDates) > properties.getMaxWindowDays()) {
+            throw new InvalidExcludedDatesException(
+                    "제외 날짜는 " + properties.getMaxWindowDays() + "일 범위 안에서만 선택할 수 있습니다.");
+        }
+    }
+
+    private static String describe(DateAvailability.RankedDay day, int memberCount) {
+        if (day.conflicts() == 0) {
+            return "전원 참석 가능 (" + memberCount + "명)";
+        }
+        return memberCount + "명 중 " + day.conflicts() + "명 불참";
+    }
+
+    // 그룹 시작/종료일은 "yyyy-MM-dd HH:mm:ss" 벽시계 값이 UTC로 역직렬화된 값
+    private static LocalDate toWindowDate(Date date) {
+        return date.toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+}
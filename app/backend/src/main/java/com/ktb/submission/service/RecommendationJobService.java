@@ -0,0 +1,108 @@
+package com.ktb.submission.service;
+
+import com.ktb.common.job.JobEventStream;
+import com.ktb.common.job.JobFailures;
+import com.ktb.common.job.JobStore;
+import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.submission.config.RecommendationJobProperties;
+import com.ktb.submission.dto.response.RecommendationJobResponse;
+import com.ktb.submission.exception.LlmUnavailableException;
+import com.ktb.submission.exception.RecommendationJobRejectedException;
+import com.ktb.submission.job.RecommendationJob;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 총무 통합 제출을 비동기 작업으로 실행하고 결과를 폴링/SSE로 전달
+ * 같은 그룹의 작업이 진행 중이면 새로 만들지 않고 기존 작업을 반환한다.
+ */
+@Slf4j
+@Service
+public class RecommendationJobService {
+    private static final String REJECTED_MESSAGE = "추천 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String FAILED_MESSAGE = "추천 작업에 실패했습니다. 잠시 후 다시 시도해 주세요.";
+    private static final String GROUP_NOT_FOUND_MESSAGE = "그룹을 찾을 수 없습니다.";
+
+    private final SubmissionService submissionService;
+    private final TaskExecutor executor;
+    private final RecommendationJobProperties properties;
+
+    // jobId → 작업
+    private final JobStore<RecommendationJob> jobs;
+    // groupId → 진행 중인 작업 (중복 제출 합치기)
+    private final ConcurrentMap<Long, RecommendationJob> inFlight = new ConcurrentHashMap<>();
+
+    public RecommendationJobService(
+            SubmissionService submissionService,
+            @Qualifier("recommendationJobExecutor") TaskExecutor executor,
+            RecommendationJobProperties properties
+    ) {
+        this.submissionService = submissionService;
+        this.executor = executor;
+        this.properties = properties;
+        this.jobs = new JobStore<>(properties.getRetention(), properties.getMaximumJobs());
+    }
+
+    public RecommendationJob submit(Long groupId) {
+        RecommendationJob candidate = RecommendationJob.create(groupId);
+        RecommendationJob job = inFlight.computeIfAbsent(groupId, id -> candidate);
+        if (job != candidate) {
+            log.info("[Job] groupId {} already has job {} in flight, attaching", groupId, job.getId());
+            return job;
+        }
+
+        jobs.put(job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            log.warn("[Job] queue full, rejecting job {} for groupId {}", job.getId(), groupId);
+            // 그 사이 합류한 요청도 실패 상태를 볼 수 있도록 작업은 남겨둔다
+            inFlight.remove(groupId, job);
+            job.fail(REJECTED_MESSAGE);
+            throw new RecommendationJobRejectedException(REJECTED_MESSAGE);
+        }
+
+        log.info("[Job] enqueued job {} for groupId {}", job.getId(), groupId);
+        return job;
+    }
+
+    public Optional<RecommendationJob> findJob(String jobId) {
+        return jobs.find(jobId);
+    }
+
+    /**
+     * 현재 상태를 "status" 이벤트로 보내고, 완료 시 "result" 이벤트를 보낸 뒤 스트림을 닫는다.
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        return findJob(jobId).map(job ->
+                JobEventStream.open(job, properties.getSseTimeout(), RecommendationJobResponse::from));
+    }
+
+    // 원인 예외는 로그에만 남긴다 (JobFailures 참고)
+    private static String clientMessage(Exception e) {
+        if (e instanceof NonExistGroupException) {
+            return GROUP_NOT_FOUND_MESSAGE;
+        }
+        return JobFailures.clientMessage(e, FAILED_MESSAGE, LlmUnavailableException.class);
+    }
+
+    private void run(RecommendationJob job) {
+        job.markRunning();
+        try {
+            job.succeed(submissionService.totalSubmitAsync(job.getGroupId()).block());
+            log.info("[Job] job {} succeeded", job.getId());
+        } catch (Exception e) {
+            log.error("[Job] job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(clientMessage(e));
+        } finally {
+            inFlight.remove(job.getGroupId(), job);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.ktb.submission.service;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupMember;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.event.GroupChangedEvent;
+import com.ktb.group.event.GroupSubmissionCommittedEvent;
+import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.group.repository.GroupMemberRepository;
+import com.ktb.group.repository.GroupRepository;
+import com.ktb.submission.bulk.ImportRow;
+import com.ktb.submission.bulk.ImportRowStatus;
+import com.ktb.submission.bulk.SubmissionImportParser;
+import com.ktb.submission.config.SubmissionImportProperties;
+import com.ktb.submission.dto.request.SubmitRequest;
+import com.ktb.submission.dto.response.SubmissionImportResponse;
+import com.ktb.submission.dto.response.SubmissionImportRowResult;
+import com.ktb.submission.exception.InvalidExcludedDatesException;
+import com.ktb.submission.repository.SubmissionRepository;
+import com.ktb.submission.schedule.DateSuggestionEngine;
+import com.ktb.user.domain.UserIdentifier;
+import com.ktb.user.repository.UserRepository;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 총무의 멤버 제출 일괄 가져오기 (CSV / NDJSON)
+ * 파일은 트랜잭션 밖에서 먼저 읽고(느린 업로드가 그룹 행 잠금을 붙잡지 않도록), 저장은 트랜잭션 하나로 처리한다.
+ * 그룹 행을 잠근 뒤 남은 정원을 한 번만 계산하고, 사용자/기존 제출은 IN 쿼리 한 번씩으로 확인한다.
+ * 제출 행은 시퀀스 id라 hibernate.jdbc.batch_size 단위 배치 INSERT로 저장되고(행 수와 무관한 SQL 문 수), 집계 행은 마지막에 한 번만 갱신된다.
+ */
+@Slf4j
+@Service
+public class SubmissionImportService {
+    private static final String ALREADY_SUBMITTED = "이미 제출한 사용자입니다.";
+    private static final String DUPLICATED_IN_FILE = "파일 안에서 중복된 닉네임입니다.";
+    private static final String USER_NOT_FOUND = "가입하지 않은 닉네임입니다.";
+    private static final String OVER_CAPACITY = "그룹 정원을 초과했습니다.";
+
+    private final SubmissionImportParser parser;
+    private final SubmissionImportProperties properties;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final UserRepository userRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionService submissionService;
+    private final DateSuggestionEngine dateSuggestionEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubmissionImportService(
+            SubmissionImportParser parser,
+            SubmissionImportProperties properties,
+            GroupRepository groupRepository,
+            GroupMemberRepository groupMemberRepository,
+            UserRepository userRepository,
+            SubmissionRepository submissionRepository,
+            SubmissionService submissionService,
+            DateSuggestionEngine dateSuggestionEngine,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.parser = parser;
+        this.properties = properties;
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.userRepository = userRepository;
+        this.submissionRepository = submissionRepository;
+        this.submissionService = submissionService;
+        this.dateSuggestionEngine = dateSuggestionEngine;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param ownerId 로그인 사용자 ID (그룹 총무가 아니면 NonExistGroupException)
+     */
+    public SubmissionImportResponse importSubmissions(Long groupId, Long ownerId, MediaType contentType, InputStream body) {
+        List<ImportRow> rows = parser.parse(body, contentType, properties.getMaxRows()).stream()
+                .map(this::checkExcludedDates)
+                .toList();
+        return transactionTemplate.execute(status -> persist(groupId, ownerId, rows));
+    }
+
+    // 제외 날짜 범위가 너무 넓은 행은 개별 제출(400)과 같은 기준으로 INVALID
+    private ImportRow checkExcludedDates(ImportRow row) {
+        if (!row.isValid()) {
+            return row;
+        }
+        try {
+            dateSuggestionEngine.validateExcludedDates(row.request().excludedDates());
+            return row;
+        } catch (InvalidExcludedDatesException e) {
+            return ImportRow.invalid(row.row(), row.nickname(), e.getMessage());
+        }
+    }
+
+    private SubmissionImportResponse persist(Long groupId, Long ownerId, List<ImportRow> rows) {
+        // 잠금 순서는 개별 제출과 같이 그룹 행 → 집계 행
+        Group group = groupRepository.findByIdForUpdate(groupId)
+                .filter(found -> found.getOwner().getId().equals(ownerId))
+                .orElseThrow(NonExistGroupException::new);
+        GroupPreferenceAggregate aggregate = submissionService.lockAggregate(groupId);
+
+        Set<String> nicknames = rows.stream()
+                .filter(ImportRow::isValid)
+                .map(ImportRow::nickname)
+                .collect(Collectors.toSet());
+        Set<String> submitted = nicknames.isEmpty()
+                ? Set.of()
+                : new HashSet<>(submissionRepository.findSubmittedNicknames(groupId, nicknames));
+        Map<String, UserIdentifier> users = nicknames.isEmpty()
+                ? Map.of()
+                : userRepository.findAllByNicknameIn(nicknames).stream()
+                        .collect(Collectors.toMap(UserIdentifier::getNickname, Function.identity(), (first, second) -> first));
+
+        // 남은 정원은 파일 순서대로 채운다
+        int remaining = group.remainingCapacity();
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> accepted = new ArrayList<>();
+        List<SubmissionImportRowResult> results = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (!row.isValid()) {
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.INVALID, row.error()));
+            } else if (!seen.add(row.nickname())) {
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.DUPLICATE, DUPLICATED_IN_FILE));
+            } else if (submitted.contains(row.nickname())) {
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.DUPLICATE, ALREADY_SUBMITTED));
+            } else if (!users.containsKey(row.nickname())) {
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.USER_NOT_FOUND, USER_NOT_FOUND));
+            } else if (accepted.size() >= remaining) {
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.OVER_CAPACITY, OVER_CAPACITY));
+            } else {
+                accepted.add(row);
+                results.add(SubmissionImportRowResult.of(row, ImportRowStatus.IMPORTED, null));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            group.joinMembers(accepted.size());
+            groupMemberRepository.saveAll(accepted.stream()
+                    .map(row -> GroupMember.createMember(group, users.get(row.nickname())))
+                    .toList());
+
+            List<SubmitRequest> submissions = accepted.stream().map(ImportRow::request).toList();
+            submissionRepository.saveAll(submissions.stream()
+                    .map(submission -> submission.toEntity(group))
+                    .toList());
+
+            // 집계는 메모리에서 합친 뒤 커밋 시 UPDATE 한 번
+            submissions.forEach(submission -> aggregate.add(
+                    submission.nickname(),
+                    submission.preferredFoods(),
+                    submission.avoidedFoods(),
+                    submission.excludedFoods(),
+                    submission.excludedDates()
+            ));
+
+            eventPublisher.publishEvent(new GroupChangedEvent(groupId));
+            eventPublisher.publishEvent(new GroupSubmissionCommittedEvent(
+                    groupId, aggregate.getSubmissionCount(), aggregate.getSubmitterNicknames()));
+        }
+
+        log.info("[BulkImport] groupId: {}, rows: {}, imported: {}", groupId, rows.size(), accepted.size());
+        return SubmissionImportResponse.of(results, group.getMemberCount(), group.getMaxCapacity());
+    }
+}
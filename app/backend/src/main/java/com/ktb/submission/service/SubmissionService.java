@@ -1,11 +1,17 @@
 package com.ktb.submission.service;
 
 import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.event.GroupSubmissionCommittedEvent;
 import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
 import com.ktb.group.repository.GroupRepository;
 import com.ktb.group.service.GroupService;
 import com.ktb.restaurant.google.dto.PlaceSummaryDto;
 import com.ktb.restaurant.google.service.RestaurantSearchService;
+import com.ktb.submission.api.LlmApiClient;
+import com.ktb.submission.cache.RecommendationCache;
+import com.ktb.submission.config.LocalRecommendationProperties;
 import com.ktb.submission.domain.Submission;
 import com.ktb.submission.dto.FinalResponseDto;
 import com.ktb.submission.dto.TotalUserSubmission;
@@ -13,87 +19,224 @@ import com.ktb.submission.dto.request.AiGenerateRequest;
 import com.ktb.submission.dto.request.RestaurantCandidate;
 import com.ktb.submission.dto.request.SubmitRequest;
 import com.ktb.submission.dto.response.AiGenerateResponse;
+import com.ktb.submission.dto.response.AiRecommendation;
+import com.ktb.submission.dto.response.FinalDateResult;
 import com.ktb.submission.exception.AlreadySubmittedUserException;
+import com.ktb.submission.exception.LlmUnavailableException;
+import com.ktb.submission.recommend.CandidateSelector;
+import com.ktb.submission.recommend.LocalRecommendationEngine;
+import com.ktb.submission.recommend.RecommendationSource;
 import com.ktb.submission.repository.SubmissionRepository;
+import com.ktb.submission.schedule.DateSuggestionEngine;
+import com.ktb.user.domain.UserIdentifier;
+import com.ktb.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
-import org.springframework.http.codec.json.Jackson2JsonDecoder;
-import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubmissionService {
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("http://3.236.242.98:8000")
-            .defaultHeader("Accept-Charset", StandardCharsets.UTF_8.name())
-            .exchangeStrategies(ExchangeStrategies.builder()
-                    .codecs(configurer -> {
-                        ObjectMapper mapper = new ObjectMapper();
-                        configurer.defaultCodecs().jackson2JsonEncoder(
-                                new Jackson2JsonEncoder(mapper, MediaType.APPLICATION_JSON));
-                        configurer.defaultCodecs().jackson2JsonDecoder(
-                                new Jackson2JsonDecoder(mapper, MediaType.APPLICATION_JSON));
-                    })
-                    .build())
-            .build();
-
     private final SubmissionRepository submissionRepository;
 
     private final GroupRepository groupRepository;
 
+    private final GroupPreferenceAggregateRepository aggregateRepository;
+
     private final RestaurantSearchService restaurantSearchService;
 
     private final GroupService groupService;
 
+    private final UserRepository userRepository;
+
+    private final LlmApiClient llmApiClient;
+
+    private final RecommendationCache recommendationCache;
+
+    private final CandidateSelector candidateSelector;
+
+    private final LocalRecommendationEngine localRecommendationEngine;
+
+    private final LocalRecommendationProperties localRecommendationProperties;
+
+    private final DateSuggestionEngine dateSuggestionEngine;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     private final static String ALREADY_SUBMITTED = "이미 제출한 사용자입니다.";
 
-    public void userSubmit(Long groupId, SubmitRequest submission) {
-        Group group = groupRepository.findById(groupId).orElseThrow();
+    /**
+     * 멤버 개별 제출 (단일 트랜잭션)
+     * 중복 제출은 그룹 행을 잠그기 전에 거절하고, 정원 검사 UPDATE가 그룹 행을 잠그므로 같은 그룹의 제출은 그 뒤 단계부터 직렬화된다.
+     * 동시에 들어온 같은 닉네임의 제출은 (group_id, nickname) 유니크 키가 막는다.
+     * 그룹/사용자는 프록시 참조만 사용하고, 제외 날짜는 제출 행의 비트맵 컬럼에 함께 저장한다.
+     *
+     * @param userId 로그인 사용자 ID (없으면 닉네임으로 사용자 조회)
+     */
+    @Transactional
+    public void userSubmit(Long groupId, Long userId, SubmitRequest submission) {
+        dateSuggestionEngine.validateExcludedDates(submission.excludedDates());
 
-        submissionRepository.findByNickname(submission.nickname())
-                .ifPresent(existSubmission -> {
-                    log.info(ALREADY_SUBMITTED);
-                    throw new AlreadySubmittedUserException(ALREADY_SUBMITTED);
-                });
+        // 정원이 찬 그룹에 다시 제출해도 FullJoinMemberException이 아니라 중복 제출로 응답
+        if (submissionRepository.existsByGroupIdAndNickname(groupId, submission.nickname())) {
+            log.info(ALREADY_SUBMITTED);
+            throw new AlreadySubmittedUserException(ALREADY_SUBMITTED);
+        }
+
+        Long memberId = (userId != null) ? userId : findUserIdByNickname(submission.nickname());
+        groupService.submitMember(groupId, memberId);
+
+        // 그룹 집계 갱신 (제출 저장과 같은 트랜잭션)
+        GroupPreferenceAggregate aggregate = lockAggregate(groupId);
+        aggregate.add(
+                submission.nickname(),
+                submission.preferredFoods(),
+                submission.avoidedFoods(),
+                submission.excludedFoods(),
+                submission.excludedDates()
+        );
 
-        submissionRepository.save(submission.toEntity(group));
+        submissionRepository.save(submission.toEntity(groupRepository.getReferenceById(groupId)));
 
-        groupService.submitMember(groupId, group.getOwner().getId(), submission.nickname());
+        // 커밋 후 집계 구독자(SSE)에게 전달
+        eventPublisher.publishEvent(new GroupSubmissionCommittedEvent(
+                groupId, aggregate.getSubmissionCount(), aggregate.getSubmitterNicknames()));
     }
 
-    public FinalResponseDto totalSubmit(Long groupId){
+    private Long findUserIdByNickname(String nickname) {
+        return userRepository.findByNickname(nickname)
+                .map(UserIdentifier::getId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + nickname));
+    }
+
+    public FinalResponseDto totalSubmit(Long groupId) {
+        return totalSubmitAsync(groupId).block();
+    }
+
+    /**
+     * 총무 통합 제출 (논블로킹). DB 조회만 boundedElastic에서 수행하고,
+     * Places 검색과 LLM 호출 동안에는 스레드를 점유하지 않는다.
+     * 소규모 그룹(fast path)이나 LLM 장애 시에는 LocalRecommendationEngine으로 추천한다.
+     */
+    public Mono<FinalResponseDto> totalSubmitAsync(Long groupId) {
         log.info("=== [Service] Starting totalSubmit for groupId: {} ===", groupId);
 
-        List<Submission> Submissions =
-                submissionRepository.findAllByGroupId(groupId);
-        log.info("[Service] Found {} submissions for groupId: {}", Submissions.size(), groupId);
+        return Mono.fromCallable(() -> loadRecommendationContext(groupId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(context -> {
+                    // Google Places API로 후보 레스토랑 검색
+                    log.info("[Service] Calling Google Places API for station: {}", context.group().getStation());
+                    return restaurantSearchService.findRestaurantsByStationAsync(context.group().getStation())
+                            .flatMap(placeSummaries -> recommend(context, placeSummaries));
+                })
+                .doOnNext(response -> log.info(
+                        "=== [Service] totalSubmit completed successfully for groupId: {} (source: {}, cached: {}) ===",
+                        groupId, response.getSource(), response.isCached()));
+    }
+
+    private Mono<FinalResponseDto> recommend(RecommendationContext context, List<PlaceSummaryDto> searchResults) {
+        // 못 먹는 음식/예산 초과 후보를 거르고 top-K만 추천 단계로 (프롬프트 축소)
+        List<PlaceSummaryDto> placeSummaries =
+                candidateSelector.select(searchResults, context.total(), context.budgetPerPerson());
 
+        // 소규모 그룹은 LLM 없이 로컬 엔진으로 바로 추천
+        int fastPathMaxPeople = localRecommendationProperties.getFastPathMaxPeople();
+        if (fastPathMaxPeople > 0 && context.group().getMaxCapacity() <= fastPathMaxPeople) {
+            log.info("[Service] Small group ({} people), using local recommendation engine", context.group().getMaxCapacity());
+            return Mono.just(recommendLocally(context, placeSummaries, RecommendationSource.LOCAL));
+        }
+
+        AiGenerateRequest request = buildAiRequest(context, placeSummaries);
+        log.info("=== [Service] Sending request to LLM server ===");
+        log.info("[Service] LLM Request - people: {}, location: {}, budgetPerPerson: {}, candidates count: {}",
+                request.getPeople(), request.getLocation(), request.getBudgetPerPerson(),
+                request.getCandidates() != null ? request.getCandidates().size() : 0);
+        log.debug("[Service] Full LLM request: {}", request);
+
+        // 같은 입력의 추천은 캐시에서 반환 (GPU 호출 절약)
+        return recommendationCache.get(request, () -> llmApiClient.generate(request))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("LLM 서버 응답이 비어 있습니다.")))
+                .map(recommendation -> new FinalResponseDto(
+                        new AiGenerateResponse(recommendation.response().getResults()),
+                        context.dates(),
+                        recommendation.cached(),
+                        RecommendationSource.LLM))
+                // LLM 서버 장애(circuit open 등)면 기다리지 않고 로컬 엔진 결과로 대체
+                .onErrorResume(LlmUnavailableException.class, e -> {
+                    if (!localRecommendationProperties.isFallbackEnabled()) {
+                        return Mono.error(e);
+                    }
+                    log.warn("[Service] LLM unavailable ({}), falling back to local recommendation engine", e.getMessage());
+                    return Mono.just(recommendLocally(context, placeSummaries, RecommendationSource.LOCAL_FALLBACK));
+                });
+    }
+
+    private FinalResponseDto recommendLocally(
+            RecommendationContext context,
+            List<PlaceSummaryDto> placeSummaries,
+            RecommendationSource source
+    ) {
+        List<AiRecommendation> results = localRecommendationEngine.recommend(
+                placeSummaries,
+                context.total(),
+                context.group().getMaxCapacity(),
+                context.budgetPerPerson()
+        );
+        return new FinalResponseDto(new AiGenerateResponse(results), context.dates(), false, source);
+    }
+
+    /**
+     * 그룹 집계 행을 잠그고 반환 (호출한 쪽 트랜잭션 안에서, 새 제출을 저장하기 전에 호출)
+     */
+    GroupPreferenceAggregate lockAggregate(Long groupId) {
+        return aggregateRepository.findByIdForUpdate(groupId)
+                .orElseGet(() -> aggregateRepository.save(rebuildAggregate(groupId)));
+    }
+
+    /**
+     * 집계 행이 없는 그룹(집계 도입 전 생성)은 기존 제출로 집계를 다시 만든다.
+     */
+    private GroupPreferenceAggregate rebuildAggregate(Long groupId) {
+        GroupPreferenceAggregate aggregate = aggregateOf(groupId, submissionRepository.findAllByGroupId(groupId));
+        log.info("[Service] Rebuilt preference aggregate for groupId: {} from {} submissions",
+                groupId, aggregate.getSubmissionCount());
+        return aggregate;
+    }
+
+    private static GroupPreferenceAggregate aggregateOf(Long groupId, List<Submission> submissions) {
+        GroupPreferenceAggregate aggregate = GroupPreferenceAggregate.create(groupId);
+        submissions.forEach(existing -> aggregate.add(
+                existing.getNickname(),
+                existing.getPreferredFoods(),
+                existing.getAvoidedFoods(),
+                existing.getExcludedFoods(),
+                existing.getExcludedDates()
+        ));
+        return aggregate;
+    }
+
+    private RecommendationContext loadRecommendationContext(Long groupId) {
         Group group = groupRepository.findById(groupId).orElseThrow(NonExistGroupException::new);
         log.info("[Service] Group details - station: {}, maxCapacity: {}, budget: {}",
                 group.getStation(), group.getMaxCapacity(), group.getBudget());
 
-        TotalUserSubmission total = new TotalUserSubmission();
-
-        List<String> likeFoodList = Submissions.stream()
-                .map(Submission::getPreferredFoods).toList();
-        List<String> disLikedFoodList = Submissions.stream()
-                .map(Submission::getAvoidedFoods).toList();
-        List<String> forbiddenFoodList = Submissions.stream()
-                .map(Submission::getExcludedFoods).toList();
-
-        total.getLikedFoodsList().addAll(likeFoodList);
-        total.getDisLikedFoodsList().addAll(disLikedFoodList);
-        total.getForbiddenFoodsList().addAll(forbiddenFoodList);
+        // 제출 N건 대신 그룹 집계 행 하나만 읽음.
+        // 집계 행이 없는 그룹(첫 제출 전 생성)은 제출로 같은 집계를 메모리에서 만든다 (저장하지 않음)
+        GroupPreferenceAggregate aggregate = aggregateRepository.findById(groupId)
+                .orElseGet(() -> aggregateOf(groupId, submissionRepository.findAllWithExcludedDatesByGroupId(groupId)));
+        TotalUserSubmission total = TotalUserSubmission.from(aggregate);
+        log.info("[Service] Aggregated {} submissions for groupId: {}", total.getSubmissionCount(), groupId);
 
+        // 날짜 추천도 같은 집계의 날짜별 불참 인원으로 계산 (추가 쿼리 없음)
+        FinalDateResult dates = dateSuggestionEngine.suggest(
+                group, aggregate.getExcludedDateCounts(), total.getSubmissionCount());
 
         int budgetPerPerson;
         int totalPeopleCnt = group.getMaxCapacity();
@@ -105,9 +248,11 @@ public class SubmissionService {
             budgetPerPerson = budget / totalPeopleCnt;
         }
 
-        // Google Places API로 후보 레스토랑 검색
-        log.info("[Service] Calling Google Places API for station: {}", group.getStation());
-        List<PlaceSummaryDto> placeSummaries = restaurantSearchService.findRestaurantsByStation(group.getStation());
+        return new RecommendationContext(group, total, budgetPerPerson, dates);
+    }
+
+    private AiGenerateRequest buildAiRequest(RecommendationContext context, List<PlaceSummaryDto> placeSummaries) {
+        Group group = context.group();
         log.info("[Service] Found {} restaurant candidates for station: {}", placeSummaries.size(), group.getStation());
 
         // PlaceSummaryDto를 Python Restaurant 스키마로 변환
@@ -116,55 +261,22 @@ public class SubmissionService {
                 .toList();
 
         // AI 요청
-        AiGenerateRequest request = new AiGenerateRequest(
+        return new AiGenerateRequest(
                 group.getMaxCapacity(),                       // people
                 group.getStation(),                          // location (필수)
-                total.getLikedFoodsList(),  // preferences
-                total.getDisLikedFoodsList(), // avoid
-                budgetPerPerson,                       // budget_per_person
+                context.total().likedFoods(),   // preferences (많이 입력된 순)
+                context.total().avoidedFoods(), // avoid
+                context.budgetPerPerson(),                       // budget_per_person
                 candidates,                              // candidates (Python Restaurant 스키마 형식)
                 400                         // max_new_tokens
         );
+    }
 
-        log.info("=== [Service] Sending request to LLM server ===");
-        log.info("[Service] LLM Request - people: {}, location: {}, budgetPerPerson: {}, candidates count: {}",
-                request.getPeople(), request.getLocation(), request.getBudgetPerPerson(),
-                request.getCandidates() != null ? request.getCandidates().size() : 0);
-        log.debug("[Service] Full LLM request: {}", request);
-
-        AiGenerateResponse aiResponse = webClient.post()
-                .uri("/generate")
-                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
-                .accept(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
-                .acceptCharset(StandardCharsets.UTF_8)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .doOnNext(errorBody -> {
-                                    log.error("=== [Service] LLM Server Error ===");
-                                    log.error("[Service] Status Code: {}", response.statusCode());
-                                    log.error("[Service] Error Response Body: {}", errorBody);
-                                })
-                                .map(errorBody -> new RuntimeException("LLM Server Error (" + response.statusCode() + "): " + errorBody))
-                )
-                .bodyToMono(AiGenerateResponse.class)
-                .doOnSuccess(resp -> {
-                    log.info("=== [Service] LLM response received successfully ===");
-                    log.info("[Service] Number of results: {}", resp != null && resp.getResults() != null ? resp.getResults().size() : 0);
-                    log.debug("[Service] Full response: {}", resp);
-                })
-                .doOnError(error -> {
-                    log.error("=== [Service] LLM request failed ===", error);
-                    log.error("[Service] Error type: {}", error.getClass().getName());
-                    log.error("[Service] Error message: {}", error.getMessage());
-                })
-                .block();
-
-        AiGenerateResponse aiGenerateResponse = new AiGenerateResponse(aiResponse.getResults());
-        log.info("=== [Service] totalSubmit completed successfully for groupId: {} ===", groupId);
-
-        return new FinalResponseDto(aiGenerateResponse, null);
+    private record RecommendationContext(
+            Group group,
+            TotalUserSubmission total,
+            int budgetPerPerson,
+            FinalDateResult dates
+    ) {
     }
 }
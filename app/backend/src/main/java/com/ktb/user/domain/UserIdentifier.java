@@ -27,4 +27,11 @@ public class UserIdentifier {
         this.nickname = nickname;
         this.password = encryptedPassword;
     }
+
+    /**
+     * JWT claim으로 복원한 읽기 전용 사용자 정보 (영속 상태 아님, 비밀번호 없음)
+     */
+    public static UserIdentifier snapshot(Long id, String username, String nickname) {
+        return new UserIdentifier(id, username, nickname, "");
+    }
 }
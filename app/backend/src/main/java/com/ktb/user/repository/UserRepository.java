@@ -4,6 +4,8 @@ import com.ktb.user.domain.UserIdentifier;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,6 @@ public interface UserRepository extends JpaRepository<UserIdentifier, Long> {
     Optional<UserIdentifier> findByUsername(String username);
 
     Optional<UserIdentifier> findByNickname(String userNickname);
+
+    List<UserIdentifier> findAllByNicknameIn(Collection<String> nicknames);
 }
@@ -74,6 +74,7 @@ COMMENT ON COLUMN user_identifier.password IS '암호화된 비밀번호';
 CREATE TABLE IF NOT EXISTS submit_group (
     id BIGINT PRIMARY KEY DEFAULT nextval('group_seq'),
     max_capacity INTEGER NOT NULL DEFAULT 0,
+    member_count INTEGER NOT NULL DEFAULT 0,
     budget INTEGER NOT NULL DEFAULT 0,
     station VARCHAR(255) NOT NULL DEFAULT '',
     has_scheduled_date BOOLEAN NOT NULL DEFAULT FALSE,
@@ -90,6 +91,7 @@ CREATE TABLE IF NOT EXISTS submit_group (
 COMMENT ON TABLE submit_group IS '회식 그룹 정보';
 COMMENT ON COLUMN submit_group.id IS '그룹 ID (PK)';
 COMMENT ON COLUMN submit_group.max_capacity IS '최대 참여 인원';
+COMMENT ON COLUMN submit_group.member_count IS '참여(제출)한 멤버 수 (정원 검사용, 조건부 UPDATE로 증가)';
 COMMENT ON COLUMN submit_group.budget IS '총 예산';
 COMMENT ON COLUMN submit_group.station IS '모임 장소 (역 이름)';
 COMMENT ON COLUMN submit_group.has_scheduled_date IS '일정 확정 여부';
@@ -136,6 +138,7 @@ CREATE TABLE IF NOT EXISTS submission (
     preferred_foods TEXT,
     avoided_foods TEXT,
     excluded_foods TEXT,
+    excluded_dates TEXT,
 
     CONSTRAINT fk_submission_group
         FOREIGN KEY (group_id)
@@ -152,10 +155,13 @@ COMMENT ON COLUMN submission.nickname IS '제출자 닉네임';
 COMMENT ON COLUMN submission.preferred_foods IS '선호 음식';
 COMMENT ON COLUMN submission.avoided_foods IS '피하고 싶은 음식';
 COMMENT ON COLUMN submission.excluded_foods IS '절대 제외 음식 (알레르기 등)';
+COMMENT ON COLUMN submission.excluded_dates IS '제외 날짜 비트맵 (v1:기준일:base64, NULL이면 event_date에 저장된 기존 제출)';
 
 -- ----------------------------------------------------------------------------
 -- Table: event_date
 -- Description: 제출 정보별 제외 날짜 (참석 불가능한 날짜)
+--              기존 저장 형식. 새 제출은 submission.excluded_dates에 저장하며,
+--              submission.migration.excluded-dates-backfill=true로 옮긴 뒤 삭제 가능
 -- ----------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS event_date (
     id BIGINT PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY,
@@ -173,6 +179,53 @@ COMMENT ON COLUMN event_date.id IS '이벤트 날짜 ID (PK)';
 COMMENT ON COLUMN event_date.submission_id IS '제출 정보 ID (FK)';
 COMMENT ON COLUMN event_date.date_value IS '제외 날짜';
 
+-- ----------------------------------------------------------------------------
+-- Table: group_preference_aggregate
+-- Description: 그룹별 제출 집계 (제출 시 같은 트랜잭션에서 갱신되는 read model)
+-- ----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS group_preference_aggregate (
+    group_id BIGINT PRIMARY KEY,
+    submission_count INTEGER NOT NULL DEFAULT 0,
+    liked_terms TEXT,
+    avoided_terms TEXT,
+    forbidden_terms TEXT,
+    excluded_date_counts TEXT,
+    submitter_nicknames TEXT,
+
+    CONSTRAINT fk_group_preference_aggregate_group
+        FOREIGN KEY (group_id)
+        REFERENCES submit_group(id)
+        ON DELETE CASCADE
+);
+
+COMMENT ON TABLE group_preference_aggregate IS '그룹별 제출 집계';
+COMMENT ON COLUMN group_preference_aggregate.group_id IS '그룹 ID (PK, FK)';
+COMMENT ON COLUMN group_preference_aggregate.submission_count IS '제출 수';
+COMMENT ON COLUMN group_preference_aggregate.liked_terms IS '선호 음식 키워드별 멤버 수 (JSON)';
+COMMENT ON COLUMN group_preference_aggregate.avoided_terms IS '피하고 싶은 음식 키워드별 멤버 수 (JSON)';
+COMMENT ON COLUMN group_preference_aggregate.forbidden_terms IS '절대 제외 음식 키워드별 멤버 수 (JSON)';
+COMMENT ON COLUMN group_preference_aggregate.excluded_date_counts IS '날짜별 불참 인원 (JSON, 날짜 추천 입력)';
+COMMENT ON COLUMN group_preference_aggregate.submitter_nicknames IS '제출자 닉네임 목록 (JSON)';
+
+-- ----------------------------------------------------------------------------
+-- Table: station_geocode
+-- Description: 역 이름 → 좌표 캐시 (Google Places Text Search 결과)
+-- ----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS station_geocode (
+    station_query VARCHAR(255) PRIMARY KEY,
+    formatted_address VARCHAR(512),
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE station_geocode IS '역 좌표 캐시';
+COMMENT ON COLUMN station_geocode.station_query IS '역 검색어 (PK, 예: 판교역)';
+COMMENT ON COLUMN station_geocode.formatted_address IS '역 주소';
+COMMENT ON COLUMN station_geocode.latitude IS '위도';
+COMMENT ON COLUMN station_geocode.longitude IS '경도';
+COMMENT ON COLUMN station_geocode.created_at IS '최초 조회 시각';
+
 -- ============================================================================
 -- Indexes
 -- ============================================================================
@@ -198,6 +251,45 @@ CREATE INDEX IF NOT EXISTS idx_submission_nickname ON submission(nickname);
 CREATE INDEX IF NOT EXISTS idx_event_date_submission ON event_date(submission_id);
 CREATE INDEX IF NOT EXISTS idx_event_date_value ON event_date(date_value);
 
+-- ============================================================================
+-- Migrations (기존 DB 대상, 여러 번 실행해도 안전)
+-- ============================================================================
+
+-- submit_group.member_count 추가 후 기존 group_member 기준으로 채움 (총무 제외)
+-- 컬럼 추가 직후(0)인 그룹만 채운다. 재시작마다 실행되므로 운영 중 증가한 값은 덮어쓰지 않음
+ALTER TABLE submit_group ADD COLUMN IF NOT EXISTS member_count INTEGER NOT NULL DEFAULT 0;
+UPDATE submit_group g
+SET member_count = (
+    SELECT COUNT(*) FROM group_member m
+    WHERE m.group_id = g.id AND m.is_owner = FALSE
+)
+WHERE g.member_count = 0
+  AND EXISTS (
+    SELECT 1 FROM group_member m
+    WHERE m.group_id = g.id AND m.is_owner = FALSE
+);
+
+-- submission.excluded_dates 비트맵 컬럼 추가 (기존 행은 ExcludedDateBackfillRunner가 채움)
+ALTER TABLE submission ADD COLUMN IF NOT EXISTS excluded_dates TEXT;
+
+-- group_preference_aggregate.excluded_dates(합집합) → excluded_date_counts(날짜별 불참 인원)
+-- 기존 event_date로 채움 (date_value는 JVM 기본 시간대 UTC 기준으로 저장된 값이라고 가정)
+ALTER TABLE group_preference_aggregate ADD COLUMN IF NOT EXISTS excluded_date_counts TEXT;
+UPDATE group_preference_aggregate a
+SET excluded_date_counts = COALESCE((
+    SELECT json_object_agg(c.day, c.members)::text
+    FROM (
+        SELECT to_char((e.date_value AT TIME ZONE 'UTC') AT TIME ZONE 'Asia/Seoul', 'YYYY-MM-DD') AS day,
+               COUNT(DISTINCT e.submission_id) AS members
+        FROM event_date e
+        JOIN submission s ON s.id = e.submission_id
+        WHERE s.group_id = a.group_id
+        GROUP BY 1
+    ) c
+), '{}')
+WHERE a.excluded_date_counts IS NULL;
+ALTER TABLE group_preference_aggregate DROP COLUMN IF EXISTS excluded_dates;
+
 -- ============================================================================
 -- Sample Data (Optional - for development only)
 -- ============================================================================
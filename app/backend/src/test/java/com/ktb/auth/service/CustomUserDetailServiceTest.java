@@ -0,0 +1,51 @@
+package com.ktb.auth.service;
+
+import com.ktb.auth.adapter.SecurityUserAccount;
+import com.ktb.auth.config.JwtConfig;
+import com.ktb.user.domain.UserIdentifier;
+import com.ktb.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomUserDetailService 테스트")
+class CustomUserDetailServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailService customUserDetailService;
+
+    @BeforeEach
+    void setUp() {
+        customUserDetailService = new CustomUserDetailService(userRepository, new JwtConfig());
+    }
+
+    @Test
+    @DisplayName("같은 userId 반복 조회는 TTL 동안 DB 조회 1회")
+    void loadUserById_CachedWithinTtl() {
+        // given
+        UserIdentifier user = UserIdentifier.snapshot(1L, "test_owner", "테스트총무");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        SecurityUserAccount first = (SecurityUserAccount) customUserDetailService.loadUserById(1L);
+        SecurityUserAccount second = (SecurityUserAccount) customUserDetailService.loadUserById(1L);
+
+        // then
+        assertThat(first.getAccount().getNickname()).isEqualTo("테스트총무");
+        assertThat(second.getAccount()).isSameAs(first.getAccount());
+        verify(userRepository, times(1)).findById(1L);
+    }
+}
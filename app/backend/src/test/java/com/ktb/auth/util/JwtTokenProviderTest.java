@@ -0,0 +1,154 @@
+package com.ktb.auth.util;
+
+import com.ktb.auth.adapter.SecurityUserAccount;
+import com.ktb.auth.config.JwtConfig;
+import com.ktb.user.domain.UserIdentifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    @TempDir
+    Path keyDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = providerWithKeys(generateKeyPair(), Duration.ofMinutes(60));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private JwtTokenProvider providerWithKeys(KeyPair keyPair, Duration accessExpire) throws Exception {
+        Path dir = Files.createTempDirectory(keyDir, "keys");
+        Path privatePem = dir.resolve("private.pem");
+        Path publicPem = dir.resolve("public.pem");
+        Files.writeString(privatePem, pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.writeString(publicPem, pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+
+        JwtConfig cfg = new JwtConfig();
+        cfg.setPrivateKeyPath("file:" + privatePem);
+        cfg.setPublicKeyPath("file:" + publicPem);
+        cfg.setAccessExpire(accessExpire);
+
+        JwtTokenProvider provider = new JwtTokenProvider(cfg, new DefaultResourceLoader(), meterRegistry);
+        provider.init();
+        return provider;
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private double verifiedTokenCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwt-verified-token")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 userId 반환, 두 번째 검증부터는 캐시 사용")
+    void verify_ValidToken_CachedAfterFirstVerification() {
+        // given
+        String token = jwtTokenProvider.generateToken(42L);
+
+        // when
+        var first = jwtTokenProvider.verify(token);
+        var second = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().userId()).isEqualTo(42L);
+        assertThat(second).contains(first.get());
+        assertThat(verifiedTokenCacheHits()).isEqualTo(1.0);
+        assertThat(jwtTokenProvider.getUserIdFromToken(token)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부")
+    void verify_TamperedToken_Rejected() {
+        // given
+        String token = jwtTokenProvider.generateToken(42L);
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부")
+    void verify_TokenFromOtherKey_Rejected() throws Exception {
+        // given
+        JwtTokenProvider other = providerWithKeys(generateKeyPair(), Duration.ofMinutes(60));
+        String foreignToken = other.generateToken(42L);
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(foreignToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부되고 캐시되지 않음")
+    void verify_ExpiredToken_Rejected() throws Exception {
+        // given
+        JwtTokenProvider expiredIssuer = providerWithKeys(generateKeyPair(), Duration.ofSeconds(-1));
+        String expired = expiredIssuer.generateToken(42L);
+
+        // when & then
+        assertThat(expiredIssuer.verify(expired)).isEmpty();
+        assertThat(expiredIssuer.verify(expired)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("principal로 생성한 토큰은 username/nickname/roles 스냅샷 포함")
+    void verify_PrincipalToken_ContainsSnapshotClaims() {
+        // given
+        UserIdentifier account = UserIdentifier.snapshot(7L, "test_owner", "테스트총무");
+        String token = jwtTokenProvider.generateToken(new SecurityUserAccount(account));
+
+        // when
+        JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertThat(verified.hasPrincipalSnapshot()).isTrue();
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.username()).isEqualTo("test_owner");
+        assertThat(verified.nickname()).isEqualTo("테스트총무");
+        assertThat(verified.roles()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("userId만 담은 토큰은 스냅샷 없음 (DB 조회 경로)")
+    void verify_SubjectOnlyToken_HasNoSnapshot() {
+        // given
+        String token = jwtTokenProvider.generateToken(42L);
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(token).orElseThrow().hasPrincipalSnapshot()).isFalse();
+    }
+}
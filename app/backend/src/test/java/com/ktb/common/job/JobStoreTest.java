@@ -0,0 +1,61 @@
+package com.ktb.common.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobStore 테스트")
+class JobStoreTest {
+
+    private static class TestJob extends AsyncJob<String, TestJob> {
+    }
+
+    @Test
+    @DisplayName("보관 한도와 retention이 지나도 진행 중인 작업은 남아 있음")
+    void find_UnfinishedJobIsRetained() {
+        // given
+        JobStore<TestJob> store = new JobStore<>(Duration.ZERO, 1);
+        List<TestJob> jobs = List.of(new TestJob(), new TestJob(), new TestJob());
+
+        // when
+        jobs.forEach(store::put);
+
+        // then
+        assertThat(jobs).allSatisfy(job -> assertThat(store.find(job.getId())).contains(job));
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 완료 시점부터 retention이 적용됨")
+    void find_CompletedJobExpiresAfterRetention() {
+        // given
+        JobStore<TestJob> store = new JobStore<>(Duration.ZERO, 1);
+        TestJob job = new TestJob();
+        store.put(job);
+
+        // when
+        job.succeed("done");
+
+        // then
+        assertThat(store.find(job.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제거된 작업은 완료되어도 다시 저장되지 않음")
+    void put_RemovedJobIsNotRestoredOnCompletion() {
+        // given
+        JobStore<TestJob> store = new JobStore<>(Duration.ofMinutes(30), 10);
+        TestJob job = new TestJob();
+        store.put(job);
+        store.remove(job.getId());
+
+        // when
+        job.fail("rejected");
+
+        // then
+        assertThat(store.find(job.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktb.group.controller;
+
+import com.ktb.group.config.GroupVersionProperties;
+import com.ktb.group.dto.TempAggregation;
+import com.ktb.group.service.GroupService;
+import com.ktb.group.stream.GroupAggregationBroadcaster;
+import com.ktb.group.version.GroupVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("GroupController ETag 테스트")
+class GroupControllerETagTest {
+
+    private static final String AGGREGATION_URL = "/api/v1/group/1/7/aggregation";
+
+    private MockMvc mockMvc;
+    private GroupService groupService;
+    private GroupVersionRegistry groupVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        groupService = mock(GroupService.class);
+        groupVersionRegistry = new GroupVersionRegistry(new GroupVersionProperties());
+        GroupController controller = new GroupController(
+                groupService, mock(GroupAggregationBroadcaster.class), groupVersionRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(groupService.getAggregation(1L, 7L)).thenReturn(new TempAggregation(1, 5, List.of("멤버0")));
+    }
+
+    private String fetchETag() throws Exception {
+        return mockMvc.perform(get(AGGREGATION_URL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 조회 없이 304")
+    void getAggregation_NotModified() throws Exception {
+        // given
+        String etag = fetchETag();
+
+        // when & then
+        mockMvc.perform(get(AGGREGATION_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+        verify(groupService, times(1)).getAggregation(1L, 7L);
+    }
+
+    @Test
+    @DisplayName("그룹 버전이 바뀌면 새 ETag와 함께 200")
+    void getAggregation_ModifiedAfterWrite() throws Exception {
+        // given
+        String etag = fetchETag();
+        groupVersionRegistry.invalidate(1L);
+
+        // when
+        String newEtag = mockMvc.perform(get(AGGREGATION_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(newEtag).isNotEqualTo(etag);
+        verify(groupService, times(2)).getAggregation(1L, 7L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ktb.group.domain;
+
+import com.ktb.group.domain.converter.LocalDateCountConverter;
+import com.ktb.group.domain.converter.TermFrequencyConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("GroupPreferenceAggregate 테스트")
+class GroupPreferenceAggregateTest {
+
+    private static Date date(String isoDate) {
+        return Date.from(LocalDate.parse(isoDate).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("제출마다 키워드별 멤버 수와 날짜별 불참 인원을 누적")
+    void add_AccumulatesTermFrequenciesAndDates() {
+        // given
+        GroupPreferenceAggregate aggregate = GroupPreferenceAggregate.create(1L);
+
+        // when
+        aggregate.add("멤버1", "치킨, 피자", "생선", "", List.of(date("2025-03-01"), date("2025-03-02")));
+        aggregate.add("멤버2", "치킨,치킨,파스타", null, "땅콩", List.of(date("2025-03-02"), date("2025-03-02")));
+
+        // then
+        assertThat(aggregate.getSubmissionCount()).isEqualTo(2);
+        assertThat(aggregate.getLikedTerms()).containsExactlyInAnyOrderEntriesOf(Map.of("치킨", 2, "피자", 1, "파스타", 1));
+        assertThat(aggregate.getAvoidedTerms()).containsExactlyEntriesOf(Map.of("생선", 1));
+        assertThat(aggregate.getForbiddenTerms()).containsExactlyEntriesOf(Map.of("땅콩", 1));
+        assertThat(aggregate.getExcludedDateCounts())
+                .containsExactly(entry(LocalDate.of(2025, 3, 1), 1), entry(LocalDate.of(2025, 3, 2), 2));
+        assertThat(aggregate.getSubmitterNicknames()).containsExactly("멤버1", "멤버2");
+    }
+
+    @Test
+    @DisplayName("한국 시간 자정으로 보낸 날짜도 사용자가 고른 날짜로 집계")
+    void add_UsesServiceZoneForExcludedDates() {
+        // given: 프론트엔드는 "2025-03-01T00:00:00+09:00"을 toISOString()으로 보냄
+        GroupPreferenceAggregate aggregate = GroupPreferenceAggregate.create(1L);
+        Date kstMidnight = Date.from(Instant.parse("2025-02-28T15:00:00Z"));
+
+        // when
+        aggregate.add("멤버1", "", "", "", List.of(kstMidnight));
+
+        // then
+        assertThat(aggregate.getExcludedDateCounts()).containsOnlyKeys(LocalDate.of(2025, 3, 1));
+    }
+
+    @Test
+    @DisplayName("빈 날짜(null)는 집계에서 건너뜀")
+    void add_SkipsNullDates() {
+        // given
+        GroupPreferenceAggregate aggregate = GroupPreferenceAggregate.create(1L);
+
+        // when
+        aggregate.add("멤버1", "", "", "", Arrays.asList(null, date("2025-03-01")));
+
+        // then
+        assertThat(aggregate.getExcludedDateCounts()).containsExactly(entry(LocalDate.of(2025, 3, 1), 1));
+    }
+
+    @Test
+    @DisplayName("집계 컬렉션은 JSON 컬럼으로 왕복 변환")
+    void converters_RoundTrip() {
+        // given
+        TermFrequencyConverter termConverter = new TermFrequencyConverter();
+        LocalDateCountConverter dateConverter = new LocalDateCountConverter();
+        TreeMap<LocalDate, Integer> dates = new TreeMap<>(Map.of(LocalDate.of(2025, 3, 2), 1, LocalDate.of(2025, 3, 1), 3));
+
+        // when
+        String terms = termConverter.convertToDatabaseColumn(Map.of("치킨", 2));
+        String dateColumn = dateConverter.convertToDatabaseColumn(dates);
+
+        // then
+        assertThat(termConverter.convertToEntityAttribute(terms)).containsExactlyEntriesOf(Map.of("치킨", 2));
+        assertThat(dateColumn).isEqualTo("{\"2025-03-01\":3,\"2025-03-02\":1}");
+        assertThat(dateConverter.convertToEntityAttribute(dateColumn)).isEqualTo(dates);
+        assertThat(termConverter.convertToEntityAttribute(null)).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ktb.group.repository;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupMember;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.dto.AggregationView;
+import com.ktb.user.domain.UserIdentifier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 조회 경로의 쿼리 수/엔티티 로딩 수 비교 (Hibernate statistics)
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("그룹 집계 조회 쿼리 테스트")
+class GroupAggregationQueryTest {
+
+    private static final int MEMBER_COUNT = 20;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupPreferenceAggregateRepository aggregateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long groupId;
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = new UserIdentifier("owner", "총무", "password");
+        entityManager.persist(owner);
+        Group group = Group.create(owner, MEMBER_COUNT, "강남역", 200000, false, new Date(), new Date());
+        entityManager.persist(group);
+        entityManager.persist(GroupMember.createOwner(group, owner));
+
+        GroupPreferenceAggregate aggregate = GroupPreferenceAggregate.create(group.getId());
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            UserIdentifier member = new UserIdentifier("member" + i, "멤버" + i, "password");
+            entityManager.persist(member);
+            entityManager.persist(GroupMember.createMember(group, member));
+            aggregate.add("멤버" + i, "치킨,피자", "생선", "", List.of());
+        }
+        aggregateRepository.save(aggregate);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        groupId = group.getId();
+        ownerId = owner.getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("projection 조회는 쿼리 1회, 엔티티 로딩 0건")
+    void findAggregationView_SingleQueryWithoutEntities() {
+        // when
+        Optional<AggregationView> view = groupRepository.findAggregationView(groupId, ownerId);
+
+        // then
+        assertThat(view).isPresent();
+        assertThat(view.get().submitCount()).isEqualTo(MEMBER_COUNT);
+        assertThat(view.get().maxCapacity()).isEqualTo(MEMBER_COUNT);
+        assertThat(view.get().nicknames()).hasSize(MEMBER_COUNT).contains("멤버0", "멤버19");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티 경로(멤버 컬렉션 순회)는 그룹/멤버/사용자를 모두 적재하고 쿼리가 멤버 수만큼 늘어남")
+    void entityAggregation_LoadsEntityGraph() {
+        // when
+        Group group = groupRepository.findById(groupId).orElseThrow();
+        int submitted = group.getSubmitMembers().size();
+        long entityLoads = statistics.getEntityLoadCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        groupRepository.findAggregationView(groupId, ownerId);
+
+        // then
+        assertThat(submitted).isEqualTo(MEMBER_COUNT + 1);
+        assertThat(entityLoads).isGreaterThanOrEqualTo(1 + 2L * MEMBER_COUNT);
+        assertThat(statements).isGreaterThan(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("owner가 다르면 조회되지 않음")
+    void findAggregationView_ChecksOwner() {
+        // when
+        Optional<AggregationView> view = groupRepository.findAggregationView(groupId, ownerId + 1000);
+
+        // then
+        assertThat(view).isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ktb.group.service;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.exception.FullJoinMemberException;
+import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.group.repository.GroupMemberRepository;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
+import com.ktb.group.repository.GroupRepository;
+import com.ktb.user.domain.UserIdentifier;
+import com.ktb.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 참여 시 정원 초과 여부 검증 (각 참여가 실제로 커밋되도록 테스트 트랜잭션 비활성화)
+ */
+@DataJpaTest
+@Import(GroupService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("GroupService 동시 참여 테스트")
+class GroupServiceConcurrencyTest {
+
+    private static final int CAPACITY = 5;
+    private static final int APPLICANTS = 20;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private GroupPreferenceAggregateRepository aggregateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long groupId;
+    private final List<Long> applicantIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = userRepository.save(new UserIdentifier("owner", "총무", "password"));
+        groupId = groupRepository.save(Group.create(owner, CAPACITY, "강남역", 100000, false, new Date(), new Date())).getId();
+        applicantIds.clear();
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicantIds.add(userRepository.save(new UserIdentifier("member" + i, "멤버" + i, "password")).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupMemberRepository.deleteAllInBatch();
+        aggregateRepository.deleteAllInBatch();
+        groupRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("정원보다 많은 동시 참여 요청에도 정원만큼만 참여 성공")
+    void submitMember_NeverExceedsCapacity() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(APPLICANTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < APPLICANTS; i++) {
+            Long userId = applicantIds.get(i);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    groupService.submitMember(groupId, userId);
+                    return true;
+                } catch (FullJoinMemberException e) {
+                    rejected.incrementAndGet();
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int joined = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                joined++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(joined).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(APPLICANTS - CAPACITY);
+        assertThat(groupRepository.findById(groupId).orElseThrow().getMemberCount()).isEqualTo(CAPACITY);
+        assertThat(groupMemberRepository.countByGroupId(groupId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("없는 그룹에 참여하면 NonExistGroupException")
+    void submitMember_UnknownGroup() {
+        // when & then
+        assertThatThrownBy(() -> groupService.submitMember(groupId + 1000, applicantIds.get(0)))
+                .isInstanceOf(NonExistGroupException.class);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ktb.group.stream;
+
+import com.ktb.group.config.GroupStreamProperties;
+import com.ktb.group.dto.TempAggregation;
+import com.ktb.group.event.GroupSubmissionCommittedEvent;
+import com.ktb.group.exception.TooManySubscribersException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupAggregationBroadcaster 테스트")
+class GroupAggregationBroadcasterTest {
+
+    private static final TempAggregation SNAPSHOT = new TempAggregation(1, 5, List.of("멤버0"));
+
+    private GroupAggregationBroadcaster broadcaster;
+    private ThreadPoolTaskScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        GroupStreamProperties properties = new GroupStreamProperties();
+        properties.setMaxSubscribersPerGroup(2);
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new GroupAggregationBroadcaster(properties, scheduler, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("그룹당 구독자 상한을 넘으면 TooManySubscribersException")
+    void subscribe_RejectsOverLimit() {
+        // given
+        broadcaster.subscribe(1L, () -> SNAPSHOT);
+        broadcaster.subscribe(1L, () -> SNAPSHOT);
+
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe(1L, () -> SNAPSHOT))
+                .isInstanceOf(TooManySubscribersException.class);
+        assertThat(broadcaster.subscriberCount(1L)).isEqualTo(2);
+        assertThat(meterRegistry.get("group.stream.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("구독자 상한은 그룹별로 적용")
+    void subscribe_LimitIsPerGroup() {
+        // given
+        broadcaster.subscribe(1L, () -> SNAPSHOT);
+        broadcaster.subscribe(1L, () -> SNAPSHOT);
+
+        // when
+        broadcaster.subscribe(2L, () -> SNAPSHOT);
+
+        // then
+        assertThat(broadcaster.subscriberCount(2L)).isEqualTo(1);
+        assertThat(meterRegistry.get("group.stream.subscribers").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 그룹의 제출 이벤트는 무시")
+    void broadcast_NoSubscribers() {
+        // when & then
+        assertThatCode(() -> broadcaster.broadcast(new GroupSubmissionCommittedEvent(3L, 2, List.of("멤버0", "멤버1"))))
+                .doesNotThrowAnyException();
+        assertThat(broadcaster.subscriberCount(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 순서보다 늦게 도착한 오래된 집계는 버림")
+    void broadcast_DropsStaleAggregation() {
+        // given
+        broadcaster.subscribe(4L, () -> SNAPSHOT);
+
+        // when
+        broadcaster.broadcast(new GroupSubmissionCommittedEvent(4L, 3, List.of("멤버0", "멤버1", "멤버2")));
+        broadcaster.broadcast(new GroupSubmissionCommittedEvent(4L, 2, List.of("멤버0", "멤버1")));
+
+        // then
+        assertThat(broadcaster.lastSubmitCount(4L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독 등록 후 스냅샷을 읽기 전에 커밋된 제출도 받고, 오래된 스냅샷을 그 뒤에 보내지 않음")
+    void subscribe_CommitDuringSnapshotRead() {
+        // given: 기존 구독자 1명
+        broadcaster.subscribe(5L, () -> SNAPSHOT);
+
+        // when: 새 구독자의 스냅샷을 읽는 사이 제출이 커밋되고, 스냅샷은 그 전 값을 읽음
+        broadcaster.subscribe(5L, () -> {
+            broadcaster.broadcast(new GroupSubmissionCommittedEvent(5L, 2, List.of("멤버0", "멤버1")));
+            return SNAPSHOT;
+        });
+
+        // then: 두 구독자 모두 마지막으로 받은 집계가 최신 제출 수
+        assertThat(broadcaster.sentSubmitCounts(5L)).containsExactly(2, 2);
+        assertThat(broadcaster.lastSubmitCount(5L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("첫 구독자의 스냅샷을 읽는 사이 커밋된 제출도 놓치지 않음")
+    void subscribe_FirstSubscriberDoesNotMissCommit() {
+        // when: 채널이 없던 그룹에 구독하는 도중 제출 커밋
+        broadcaster.subscribe(6L, () -> {
+            broadcaster.broadcast(new GroupSubmissionCommittedEvent(6L, 2, List.of("멤버0", "멤버1")));
+            return SNAPSHOT;
+        });
+
+        // then
+        assertThat(broadcaster.sentSubmitCounts(6L)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 읽지 못하면 구독을 등록하지 않음")
+    void subscribe_SnapshotFailureUnsubscribes() {
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe(7L, () -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(broadcaster.subscriberCount(7L)).isZero();
+    }
+}
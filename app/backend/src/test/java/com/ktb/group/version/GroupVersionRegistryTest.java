@@ -0,0 +1,60 @@
+package com.ktb.group.version;
+
+import com.ktb.group.config.GroupVersionProperties;
+import com.ktb.group.event.GroupChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GroupVersionRegistry 테스트")
+class GroupVersionRegistryTest {
+
+    private GroupVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new GroupVersionRegistry(new GroupVersionProperties());
+    }
+
+    @Test
+    @DisplayName("쓰기가 없으면 같은 버전을 반환")
+    void currentVersion_StableWithoutWrites() {
+        // when
+        long first = registry.currentVersion(1L);
+        long second = registry.currentVersion(1L);
+
+        // then
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("커밋된 그룹 변경 이벤트는 해당 그룹의 버전만 바꿈")
+    void onGroupChanged_BumpsOnlyThatGroup() {
+        // given
+        long group1 = registry.currentVersion(1L);
+        long group2 = registry.currentVersion(2L);
+
+        // when
+        registry.onGroupChanged(new GroupChangedEvent(1L));
+
+        // then
+        assertThat(registry.currentVersion(1L)).isGreaterThan(group1);
+        assertThat(registry.currentVersion(2L)).isEqualTo(group2);
+    }
+
+    @Test
+    @DisplayName("재시작한 인스턴스의 버전은 이전 인스턴스가 발급한 버전과 겹치지 않음")
+    void currentVersion_NotReusedAcrossRestarts() throws InterruptedException {
+        // given
+        long before = registry.currentVersion(1L);
+        Thread.sleep(2);
+
+        // when
+        long afterRestart = new GroupVersionRegistry(new GroupVersionProperties()).currentVersion(1L);
+
+        // then
+        assertThat(afterRestart).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ktb.image.cache;
+
+import com.ktb.image.config.OcrCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OcrResultCache 테스트")
+class OcrResultCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private OcrResultCache ocrResultCache;
+
+    @BeforeEach
+    void setUp() {
+        ocrResultCache = new OcrResultCache(new OcrCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("복사하면서 계산한 해시는 내용만으로 결정")
+    void copyAndHash_SameContentSameHash() throws Exception {
+        // given
+        byte[] content = "fake receipt content".getBytes();
+        Path target = tempDir.resolve("upload");
+
+        // when
+        String copiedHash = OcrResultCache.copyAndHash(new ByteArrayInputStream(content), target);
+        String hash = OcrResultCache.hash(new ByteArrayInputStream(content));
+
+        // then
+        assertThat(copiedHash).isEqualTo(hash).hasSize(64);
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(OcrResultCache.hash(new ByteArrayInputStream("other".getBytes()))).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("진행 중인 OCR에 두 번째 요청이 합류")
+    void claim_SecondClaimJoinsInFlight() {
+        // when
+        OcrResultCache.Claim first = ocrResultCache.claim("abc");
+        OcrResultCache.Claim second = ocrResultCache.claim("abc");
+        first.result().complete("{\"total\":48000}");
+
+        // then
+        assertThat(first.owner()).isTrue();
+        assertThat(second.owner()).isFalse();
+        assertThat(second.result().join()).isEqualTo("{\"total\":48000}");
+    }
+
+    @Test
+    @DisplayName("실패한 OCR은 캐시하지 않음")
+    void claim_FailureIsNotCached() {
+        // given
+        OcrResultCache.Claim failed = ocrResultCache.claim("abc");
+        failed.result().completeExceptionally(new RuntimeException("OCR Server Error"));
+
+        // when
+        OcrResultCache.Claim retry = ocrResultCache.claim("abc");
+
+        // then
+        assertThat(retry.owner()).isTrue();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -32,7 +33,10 @@ class ImageForwardingServiceIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        imageForwardingService = new ImageForwardingService(new RestTemplateBuilder());
+        imageForwardingService = new ImageForwardingService(new RestTemplateBuilder()
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(30))
+                .build());
 
         // 환경변수에서 OCR 서버 URL 가져오기
         String ocrServerUrl = System.getenv("IMAGE_OCR_SERVER_URL");
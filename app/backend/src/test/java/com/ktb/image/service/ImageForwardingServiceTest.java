@@ -8,8 +8,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -41,10 +41,8 @@ class ImageForwardingServiceTest {
     @BeforeEach
     void setUp() {
         mockRestTemplate = mock(RestTemplate.class);
-        imageForwardingService = new ImageForwardingService(new RestTemplateBuilder());
+        imageForwardingService = new ImageForwardingService(mockRestTemplate);
 
-        // RestTemplate을 mock으로 교체
-        ReflectionTestUtils.setField(imageForwardingService, "restTemplate", mockRestTemplate);
         ReflectionTestUtils.setField(imageForwardingService, "targetServerUrl", "http://localhost:8000/receipt");
     }
 
@@ -203,4 +201,41 @@ class ImageForwardingServiceTest {
         assertThat(serverUrl).isNotNull();
         assertThat(serverUrl).isEqualTo("http://localhost:8000/receipt");
     }
+
+    @Test
+    @DisplayName("업로드 파일을 힙에 복사하지 않고 스트림으로 전송")
+    void forwardImage_StreamsWithoutBuffering() throws IOException {
+        // given
+        byte[] content = "fake receipt content".getBytes();
+        MockMultipartFile receiptFile = spy(new MockMultipartFile(
+            "file",
+            "receipt.jpg",
+            "image/jpeg",
+            content
+        ));
+
+        ResponseEntity<String> mockResponse = new ResponseEntity<>("OK", HttpStatus.OK);
+        given(mockRestTemplate.postForEntity(
+            anyString(),
+            any(HttpEntity.class),
+            eq(String.class)
+        )).willReturn(mockResponse);
+
+        // when
+        imageForwardingService.forwardImage(receiptFile);
+
+        // then
+        verify(mockRestTemplate).postForEntity(
+            anyString(),
+            requestCaptor.capture(),
+            eq(String.class)
+        );
+        Resource part = (Resource) requestCaptor.getValue().getBody().getFirst("file");
+        assertThat(part.getFilename()).isEqualTo("receipt.jpg");
+        assertThat(part.contentLength()).isEqualTo(content.length);
+        try (InputStream in = part.getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        verify(receiptFile, never()).getBytes();
+    }
 }
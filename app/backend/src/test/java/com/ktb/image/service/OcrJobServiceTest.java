@@ -0,0 +1,150 @@
+package com.ktb.image.service;
+
+import com.ktb.common.job.JobStatus;
+import com.ktb.image.cache.OcrResultCache;
+import com.ktb.image.config.OcrCacheProperties;
+import com.ktb.image.config.OcrJobProperties;
+import com.ktb.image.exception.OcrJobRejectedException;
+import com.ktb.image.job.OcrJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OcrJobService 테스트")
+class OcrJobServiceTest {
+
+    @Mock
+    private ImageForwardingService imageForwardingService;
+
+    private OcrJobService ocrJobService;
+
+    private final MockMultipartFile receipt = new MockMultipartFile(
+            "file", "receipt.jpg", "image/jpeg", "fake receipt content".getBytes());
+
+    private static OcrResultCache newCache() {
+        return new OcrResultCache(new OcrCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 작업을 별도 스레드에서 바로 실행
+        TaskExecutor executor = task -> new Thread(task).start();
+        ocrJobService = new OcrJobService(imageForwardingService, executor, new OcrJobProperties(), newCache());
+    }
+
+    @Test
+    @DisplayName("업로드는 즉시 접수되고, 워커가 OCR 결과를 저장한 뒤 임시 파일 삭제")
+    void submit_StoresResultAndDeletesTempFile() throws Exception {
+        // given
+        given(imageForwardingService.forwardFile(any(Path.class), eq("receipt.jpg")))
+                .willReturn("{\"total\":48000}");
+
+        // when
+        OcrJob job = ocrJobService.submit(receipt);
+        job.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(job.getResult()).isEqualTo("{\"total\":48000}");
+        assertThat(ocrJobService.findJob(job.getId())).contains(job);
+
+        ArgumentCaptor<Path> uploaded = ArgumentCaptor.forClass(Path.class);
+        verify(imageForwardingService).forwardFile(uploaded.capture(), eq("receipt.jpg"));
+        assertThat(Files.exists(uploaded.getValue())).isFalse();
+    }
+
+    @Test
+    @DisplayName("OCR 서버 실패 시 FAILED 상태와 고정 에러 메시지 기록 (원인 메시지는 노출하지 않음)")
+    void submit_OcrFailure_MarksFailed() throws Exception {
+        // given
+        given(imageForwardingService.forwardFile(any(Path.class), any()))
+                .willThrow(new RuntimeException("503 Service Unavailable"));
+
+        // when
+        OcrJob job = ocrJobService.submit(receipt);
+        job.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage())
+                .isEqualTo("영수증 인식에 실패했습니다. 잠시 후 다시 시도해 주세요.")
+                .doesNotContain("503");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 Retry-After와 함께 거절")
+    void submit_QueueFull_Rejected() {
+        // given
+        TaskExecutor fullExecutor = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+        OcrJobService service = new OcrJobService(imageForwardingService, fullExecutor, new OcrJobProperties(), newCache());
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(receipt))
+                .isInstanceOf(OcrJobRejectedException.class)
+                .extracting("retryAfter")
+                .isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 다시 올리면 OCR 서버 호출 없이 캐시된 결과 반환")
+    void submit_DuplicateImage_ServedFromCache() throws Exception {
+        // given
+        given(imageForwardingService.forwardFile(any(Path.class), any()))
+                .willReturn("{\"total\":48000}");
+        MockMultipartFile samePhotoAgain = new MockMultipartFile(
+                "file", "IMG_0001.jpg", "image/jpeg", "fake receipt content".getBytes());
+
+        // when
+        OcrJob first = ocrJobService.submit(receipt);
+        first.getCompletion().get(5, TimeUnit.SECONDS);
+        OcrJob second = ocrJobService.submit(samePhotoAgain);
+        second.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash());
+        assertThat(second.isCached()).isTrue();
+        assertThat(second.getResult()).isEqualTo("{\"total\":48000}");
+        verify(imageForwardingService, times(1)).forwardFile(any(Path.class), any());
+    }
+
+    @Test
+    @DisplayName("동기 OCR도 같은 이미지는 캐시 사용")
+    void recognize_DuplicateImage_ServedFromCache() throws Exception {
+        // given
+        given(imageForwardingService.forwardImage(receipt)).willReturn("{\"total\":48000}");
+
+        // when
+        String first = ocrJobService.recognize(receipt);
+        String second = ocrJobService.recognize(receipt);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        verify(imageForwardingService, times(1)).forwardImage(receipt);
+        verify(imageForwardingService, never()).forwardFile(any(), any());
+    }
+}
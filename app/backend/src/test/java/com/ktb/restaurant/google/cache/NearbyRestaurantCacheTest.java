@@ -0,0 +1,127 @@
+package com.ktb.restaurant.google.cache;
+
+import com.ktb.restaurant.google.config.PlacesCacheProperties;
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NearbyRestaurantCache 테스트")
+class NearbyRestaurantCacheTest {
+
+    private static final double GANGNAM_LAT = 37.4979;
+    private static final double GANGNAM_LNG = 127.0276;
+
+    private NearbyRestaurantCache nearbyRestaurantCache;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        nearbyRestaurantCache = new NearbyRestaurantCache(new PlacesCacheProperties(), new SimpleMeterRegistry());
+        upstreamCalls = new AtomicInteger();
+    }
+
+    private Mono<List<PlaceSummaryDto>> slowUpstream() {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            PlaceSummaryDto place = new PlaceSummaryDto(
+                "korean_restaurant", "강남 맛집", 4.4, 300,
+                new NearbySearchResponse.LatLng(GANGNAM_LAT, GANGNAM_LNG),
+                "서울 강남구", null, true, null, 4.1
+            );
+            return Mono.just(List.of(place)).delayElement(Duration.ofMillis(200));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 역에 대한 동시 요청 50개는 upstream 호출 1회로 합쳐짐")
+    void get_CoalescesConcurrentRequests() throws Exception {
+        // given
+        int concurrency = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<PlaceSummaryDto>>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < concurrency; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, this::slowUpstream).block();
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<List<PlaceSummaryDto>> result : results) {
+            assertThat(result.get()).hasSize(1);
+        }
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 좌표 셀은 캐시를 공유하고, 반경이 다르면 별도 조회")
+    void get_KeyedByCellAndRadius() {
+        // when
+        nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, this::slowUpstream).block();
+        nearbyRestaurantCache.get(GANGNAM_LAT + 0.00002, GANGNAM_LNG - 0.00002, 500, this::slowUpstream).block();
+        nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 1000, this::slowUpstream).block();
+
+        // then
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("upstream 실패는 캐시하지 않음")
+    void get_FailureIsNotCached() {
+        // given
+        Mono<List<PlaceSummaryDto>> failing = Mono.error(new RuntimeException("Google API Error"));
+
+        // when
+        try {
+            nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, () -> failing).block();
+        } catch (RuntimeException ignored) {
+        }
+        List<PlaceSummaryDto> result =
+            nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, this::slowUpstream).block();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 결과는 빈 리스트로 반환하되 캐시하지 않음")
+    void get_EmptyResultIsNotCached() {
+        // given
+        Mono<List<PlaceSummaryDto>> empty = Mono.fromSupplier(() -> {
+            upstreamCalls.incrementAndGet();
+            return List.of();
+        });
+
+        // when
+        List<PlaceSummaryDto> first =
+            nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, () -> empty).block();
+        List<PlaceSummaryDto> second =
+            nearbyRestaurantCache.get(GANGNAM_LAT, GANGNAM_LNG, 500, this::slowUpstream).block();
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).hasSize(1);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ktb.restaurant.google.cache;
+
+import com.ktb.restaurant.google.api.GooglePlacesApiClient;
+import com.ktb.restaurant.google.config.PlacesCacheProperties;
+import com.ktb.restaurant.google.domain.StationGeocode;
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.StationTextSearchResponse;
+import com.ktb.restaurant.google.repository.StationGeocodeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StationGeocodeCache 테스트")
+class StationGeocodeCacheTest {
+
+    @Mock
+    private GooglePlacesApiClient googleClient;
+
+    @Mock
+    private StationGeocodeRepository stationGeocodeRepository;
+
+    private StationGeocodeCache stationGeocodeCache;
+
+    private StationTextSearchResponse.Place pangyo;
+
+    @BeforeEach
+    void setUp() {
+        stationGeocodeCache = new StationGeocodeCache(
+            googleClient,
+            stationGeocodeRepository,
+            new PlacesCacheProperties(),
+            new SimpleMeterRegistry()
+        );
+
+        pangyo = new StationTextSearchResponse.Place(
+            "경기도 성남시 분당구 백현동 판교역",
+            new NearbySearchResponse.LatLng(37.3948, 127.1109)
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 Google 조회 후 DB에 저장하고, 이후 요청은 메모리에서 응답")
+    void resolve_UpstreamMissThenMemoryHit() {
+        // given
+        given(stationGeocodeRepository.findById("판교역")).willReturn(Optional.empty());
+        given(googleClient.searchStation("판교역"))
+            .willReturn(new StationTextSearchResponse(List.of(pangyo)));
+
+        // when
+        StationTextSearchResponse.Place first = stationGeocodeCache.resolve("판교역");
+        StationTextSearchResponse.Place second = stationGeocodeCache.resolve("판교역");
+
+        // then
+        assertThat(first).isEqualTo(pangyo);
+        assertThat(second).isEqualTo(pangyo);
+        verify(googleClient, times(1)).searchStation("판교역");
+        verify(stationGeocodeRepository, times(1)).save(any(StationGeocode.class));
+        assertThat(stationGeocodeCache.memoryStats().hitCount()).isEqualTo(1);
+        assertThat(stationGeocodeCache.memoryStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 역은 Google을 호출하지 않음")
+    void resolve_PersistentHit() {
+        // given
+        given(stationGeocodeRepository.findById("판교역"))
+            .willReturn(Optional.of(StationGeocode.create("판교역", pangyo)));
+
+        // when
+        StationTextSearchResponse.Place result = stationGeocodeCache.resolve("판교역");
+
+        // then
+        assertThat(result).isEqualTo(pangyo);
+        verify(googleClient, never()).searchStation(any());
+    }
+
+    @Test
+    @DisplayName("찾지 못한 역은 캐시하지 않음")
+    void resolve_NotFoundIsNotCached() {
+        // given
+        given(stationGeocodeRepository.findById("존재하지않는역역")).willReturn(Optional.empty());
+        given(googleClient.searchStation("존재하지않는역역"))
+            .willReturn(new StationTextSearchResponse(List.of()));
+
+        // when
+        StationTextSearchResponse.Place first = stationGeocodeCache.resolve("존재하지않는역역");
+        StationTextSearchResponse.Place second = stationGeocodeCache.resolve("존재하지않는역역");
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(googleClient, times(2)).searchStation("존재하지않는역역");
+        verify(stationGeocodeRepository, never()).save(any(StationGeocode.class));
+    }
+
+    @Test
+    @DisplayName("같은 역의 동시 비동기 미스는 DB 조회/Google 호출/저장 1회로 합쳐짐")
+    void resolveAsync_CoalescesConcurrentMisses() throws Exception {
+        // given
+        Sinks.One<StationTextSearchResponse> google = Sinks.one();
+        given(stationGeocodeRepository.findById("판교역")).willReturn(Optional.empty());
+        given(googleClient.searchStationAsync("판교역")).willReturn(google.asMono());
+
+        // when: Google 응답 전에 두 요청이 모두 구독
+        CompletableFuture<StationTextSearchResponse.Place> first = stationGeocodeCache.resolveAsync("판교역").toFuture();
+        CompletableFuture<StationTextSearchResponse.Place> second = stationGeocodeCache.resolveAsync("판교역").toFuture();
+        google.tryEmitValue(new StationTextSearchResponse(List.of(pangyo)));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(pangyo);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(pangyo);
+        verify(stationGeocodeRepository, times(1)).findById("판교역");
+        verify(googleClient, times(1)).searchStationAsync("판교역");
+        verify(stationGeocodeRepository, times(1)).save(any(StationGeocode.class));
+    }
+
+    @Test
+    @DisplayName("비동기 조회에서도 찾지 못한 역은 캐시하지 않음")
+    void resolveAsync_NotFoundIsNotCached() {
+        // given
+        given(stationGeocodeRepository.findById("존재하지않는역역")).willReturn(Optional.empty());
+        given(googleClient.searchStationAsync("존재하지않는역역"))
+            .willReturn(Mono.just(new StationTextSearchResponse(List.of())));
+
+        // when
+        StationTextSearchResponse.Place first = stationGeocodeCache.resolveAsync("존재하지않는역역").block();
+        StationTextSearchResponse.Place second = stationGeocodeCache.resolveAsync("존재하지않는역역").block();
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(googleClient, times(2)).searchStationAsync("존재하지않는역역");
+    }
+}
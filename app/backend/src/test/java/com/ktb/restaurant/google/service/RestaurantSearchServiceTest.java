@@ -1,17 +1,21 @@
 package com.ktb.restaurant.google.service;
 
 import com.ktb.restaurant.google.api.GooglePlacesApiClient;
+import com.ktb.restaurant.google.cache.NearbyRestaurantCache;
+import com.ktb.restaurant.google.cache.StationGeocodeCache;
+import com.ktb.restaurant.google.config.PlacesCacheProperties;
 import com.ktb.restaurant.google.dto.NearbySearchResponse;
 import com.ktb.restaurant.google.dto.PlaceSummaryDto;
 import com.ktb.restaurant.google.dto.StationTextSearchResponse;
 import com.ktb.restaurant.google.mapper.PlaceSummaryMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -31,16 +35,24 @@ class RestaurantSearchServiceTest {
     @Mock
     private PlaceSummaryMapper mapper;
 
-    @InjectMocks
+    @Mock
+    private StationGeocodeCache stationGeocodeCache;
+
     private RestaurantSearchService restaurantSearchService;
 
     private StationTextSearchResponse.Place pangyo;
-    private StationTextSearchResponse stationResponse;
     private NearbySearchResponse nearbyResponse;
     private PlaceSummaryDto restaurantDto;
 
     @BeforeEach
     void setUp() {
+        restaurantSearchService = new RestaurantSearchService(
+            googleClient,
+            mapper,
+            stationGeocodeCache,
+            new NearbyRestaurantCache(new PlacesCacheProperties(), new SimpleMeterRegistry())
+        );
+
         // 판교역 위치 정보 (실제 좌표)
         NearbySearchResponse.LatLng pangyoLocation =
             new NearbySearchResponse.LatLng(37.3948, 127.1109);
@@ -50,8 +62,6 @@ class RestaurantSearchServiceTest {
             pangyoLocation
         );
 
-        stationResponse = new StationTextSearchResponse(List.of(pangyo));
-
         // Mock 레스토랑 데이터
         NearbySearchResponse.Place mockRestaurant = new NearbySearchResponse.Place(
             "restaurant",
@@ -92,9 +102,9 @@ class RestaurantSearchServiceTest {
     void findRestaurantsByStation_Success() {
         // given
         String stationName = "판교";
-        given(googleClient.searchStation("판교역")).willReturn(stationResponse);
-        given(googleClient.searchRestaurants(37.3948, 127.1109, 500))
-            .willReturn(nearbyResponse);
+        given(stationGeocodeCache.resolve("판교역")).willReturn(pangyo);
+        given(googleClient.searchRestaurantsAsync(37.3948, 127.1109, 500))
+            .willReturn(Mono.just(nearbyResponse));
         given(mapper.toDto(any(NearbySearchResponse.Place.class)))
             .willReturn(restaurantDto);
 
@@ -114,8 +124,8 @@ class RestaurantSearchServiceTest {
         assertThat(result.calcRating()).isEqualTo(4.3);
 
         // verify
-        verify(googleClient).searchStation("판교역");
-        verify(googleClient).searchRestaurants(37.3948, 127.1109, 500);
+        verify(stationGeocodeCache).resolve("판교역");
+        verify(googleClient).searchRestaurantsAsync(37.3948, 127.1109, 500);
         verify(mapper).toDto(any(NearbySearchResponse.Place.class));
     }
 
@@ -124,15 +134,14 @@ class RestaurantSearchServiceTest {
     void findRestaurantsByStation_StationNotFound() {
         // given
         String stationName = "존재하지않는역";
-        StationTextSearchResponse emptyResponse = new StationTextSearchResponse(List.of());
-        given(googleClient.searchStation("존재하지않는역역")).willReturn(emptyResponse);
+        given(stationGeocodeCache.resolve("존재하지않는역역")).willReturn(null);
 
         // when & then
         assertThatThrownBy(() -> restaurantSearchService.findRestaurantsByStation(stationName))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("역 정보를 찾을 수 없습니다");
 
-        verify(googleClient).searchStation("존재하지않는역역");
+        verify(stationGeocodeCache).resolve("존재하지않는역역");
     }
 
     @Test
@@ -142,9 +151,7 @@ class RestaurantSearchServiceTest {
         String stationName = "판교";
         StationTextSearchResponse.Place stationWithoutLocation =
             new StationTextSearchResponse.Place("판교역", null);
-        StationTextSearchResponse invalidResponse =
-            new StationTextSearchResponse(List.of(stationWithoutLocation));
-        given(googleClient.searchStation("판교역")).willReturn(invalidResponse);
+        given(stationGeocodeCache.resolve("판교역")).willReturn(stationWithoutLocation);
 
         // when & then
         assertThatThrownBy(() -> restaurantSearchService.findRestaurantsByStation(stationName))
@@ -159,17 +166,17 @@ class RestaurantSearchServiceTest {
         String stationName = "판교";
         NearbySearchResponse emptyNearbyResponse = new NearbySearchResponse(null);
 
-        given(googleClient.searchStation("판교역")).willReturn(stationResponse);
-        given(googleClient.searchRestaurants(37.3948, 127.1109, 500))
-            .willReturn(emptyNearbyResponse);
+        given(stationGeocodeCache.resolve("판교역")).willReturn(pangyo);
+        given(googleClient.searchRestaurantsAsync(37.3948, 127.1109, 500))
+            .willReturn(Mono.just(emptyNearbyResponse));
 
         // when
         List<PlaceSummaryDto> results = restaurantSearchService.findRestaurantsByStation(stationName);
 
         // then
         assertThat(results).isEmpty();
-        verify(googleClient).searchStation("판교역");
-        verify(googleClient).searchRestaurants(37.3948, 127.1109, 500);
+        verify(stationGeocodeCache).resolve("판교역");
+        verify(googleClient).searchRestaurantsAsync(37.3948, 127.1109, 500);
     }
 
     @Test
@@ -210,9 +217,9 @@ class RestaurantSearchServiceTest {
             "주소2", null, false, null, 4.0
         );
 
-        given(googleClient.searchStation("판교역")).willReturn(stationResponse);
-        given(googleClient.searchRestaurants(37.3948, 127.1109, 500))
-            .willReturn(multipleResponse);
+        given(stationGeocodeCache.resolve("판교역")).willReturn(pangyo);
+        given(googleClient.searchRestaurantsAsync(37.3948, 127.1109, 500))
+            .willReturn(Mono.just(multipleResponse));
         given(mapper.toDto(restaurant1)).willReturn(dto1);
         given(mapper.toDto(restaurant2)).willReturn(dto2);
 
@@ -0,0 +1,149 @@
+package com.ktb.submission.api;
+
+import com.ktb.submission.config.LlmResilienceProperties;
+import com.ktb.submission.dto.request.AiGenerateRequest;
+import com.ktb.submission.exception.LlmUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LlmApiClient 테스트")
+class LlmApiClientTest {
+
+    private LlmResilienceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LlmResilienceProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumNumberOfCalls(4);
+        properties.setMaxConcurrentCalls(2);
+        properties.setCallTimeout(Duration.ofMillis(200));
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamCalls = new AtomicInteger();
+    }
+
+    private LlmApiClient clientWith(Mono<ClientResponse> upstream) {
+        ExchangeFunction exchange = request -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        };
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://llm.test")
+                .exchangeFunction(exchange)
+                .build();
+        return new LlmApiClient(webClient, properties, meterRegistry);
+    }
+
+    private AiGenerateRequest request() {
+        return new AiGenerateRequest(4, "강남역", List.of("한식"), List.of("생선"), 20000, List.of(), 400);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 circuit이 열리고 이후 호출은 LLM 서버로 가지 않고 즉시 실패")
+    void generate_OpensCircuitAfterFailures() {
+        // given
+        LlmApiClient client = clientWith(Mono.error(new IOException("Connection refused")));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.generate(request()).block())
+                    .hasRootCauseInstanceOf(IOException.class);
+        }
+
+        // when & then
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.generate(request()).block())
+                .isInstanceOf(LlmUnavailableException.class);
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+        assertThat(meterRegistry.get("llm.calls.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("llm.circuit.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한을 넘으면 대기하지 않고 LlmUnavailableException")
+    void generate_RejectsWhenBulkheadFull() {
+        // given
+        properties.setCallTimeout(Duration.ofSeconds(10));
+        LlmApiClient client = clientWith(Mono.never());
+        Disposable first = client.generate(request()).subscribe();
+        Disposable second = client.generate(request()).subscribe();
+
+        // when & then
+        assertThatThrownBy(() -> client.generate(request()).block())
+                .isInstanceOf(LlmUnavailableException.class);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("llm.calls.rejected").tag("reason", "bulkhead_full").counter().count())
+                .isEqualTo(1.0);
+
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘으면 LlmUnavailableException으로 실패")
+    void generate_TimesOut() {
+        // given
+        LlmApiClient client = clientWith(Mono.never());
+
+        // when & then
+        assertThatThrownBy(() -> client.generate(request()).block())
+                .isInstanceOf(LlmUnavailableException.class)
+                .hasMessageContaining("시간이 초과");
+    }
+
+    @Test
+    @DisplayName("LLM 서버에 연결할 수 없으면 circuit이 열리기 전에도 LlmUnavailableException")
+    void generate_ConnectionRefused() {
+        // given
+        LlmApiClient client = clientWith(Mono.error(new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.POST, URI.create("http://llm.test/generate"),
+                new HttpHeaders())));
+
+        // when & then
+        assertThatThrownBy(() -> client.generate(request()).block())
+                .isInstanceOf(LlmUnavailableException.class)
+                .hasRootCauseInstanceOf(ConnectException.class);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 LlmUnavailableException, 4xx 응답은 그대로 요청 오류")
+    void generate_ServerErrorIsUnavailable() {
+        // given
+        LlmApiClient serverError = clientWith(Mono.just(
+                ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).body("boom").build()));
+        LlmApiClient badRequest = clientWith(Mono.just(
+                ClientResponse.create(HttpStatus.UNPROCESSABLE_ENTITY).body("invalid").build()));
+
+        // when & then
+        assertThatThrownBy(() -> serverError.generate(request()).block())
+                .isInstanceOf(LlmUnavailableException.class);
+        assertThatThrownBy(() -> badRequest.generate(request()).block())
+                .isNotInstanceOf(LlmUnavailableException.class)
+                .hasMessageContaining("422");
+    }
+}
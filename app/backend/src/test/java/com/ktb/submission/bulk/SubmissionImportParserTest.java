@@ -0,0 +1,119 @@
+package com.ktb.submission.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.submission.domain.ExcludedDateSet;
+import com.ktb.submission.exception.InvalidImportFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SubmissionImportParser 테스트")
+class SubmissionImportParserTest {
+
+    private final SubmissionImportParser parser = new SubmissionImportParser(new ObjectMapper());
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 기준으로 읽고 따옴표 안의 쉼표와 BOM을 처리")
+    void parseCsv() {
+        // given
+        String csv = "\uFEFFnickname,gender,age,excluded_dates,preferred_foods,avoided_foods,excluded_foods\n"
+                + "민수,M,29,2025-01-10;2025-01-11,\"치킨,피자\",회,\n"
+                + "\n"
+                + " 지영 ,F,,,한식,,갑각류\n";
+
+        // when
+        List<ImportRow> rows = parser.parse(body(csv), SubmissionImportParser.TEXT_CSV, 10);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allMatch(ImportRow::isValid);
+
+        ImportRow first = rows.get(0);
+        assertThat(first.row()).isEqualTo(1);
+        assertThat(first.nickname()).isEqualTo("민수");
+        assertThat(first.request().age()).isEqualTo(29);
+        assertThat(first.request().preferredFoods()).isEqualTo("치킨,피자");
+        assertThat(first.request().excludedDates())
+                .extracting(ExcludedDateSet::toLocalDate)
+                .containsExactly(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 11));
+
+        ImportRow second = rows.get(1);
+        assertThat(second.row()).isEqualTo(2);
+        assertThat(second.nickname()).isEqualTo("지영");
+        assertThat(second.request().age()).isNull();
+        assertThat(second.request().excludedDates()).isEmpty();
+        assertThat(second.request().excludedFoods()).isEqualTo("갑각류");
+    }
+
+    @Test
+    @DisplayName("CSV: 형식이 잘못된 행은 INVALID 행으로 남기고 나머지는 계속 읽음")
+    void parseCsv_InvalidRows() {
+        // given
+        String csv = "nickname,age,excluded_dates\n"
+                + "민수,스물,\n"
+                + "지영,30,2025/01/10\n"
+                + ",30,\n"
+                + "철수,31,\n";
+
+        // when
+        List<ImportRow> rows = parser.parse(body(csv), SubmissionImportParser.TEXT_CSV, 10);
+
+        // then
+        assertThat(rows).extracting(ImportRow::isValid).containsExactly(false, false, false, true);
+        assertThat(rows.get(0).nickname()).isEqualTo("민수");
+        assertThat(rows.get(0).error()).contains("age");
+        assertThat(rows.get(1).error()).contains("excluded_dates");
+        assertThat(rows.get(2).error()).contains("nickname");
+    }
+
+    @Test
+    @DisplayName("NDJSON: 줄마다 SubmitRequest로 읽고 잘못된 JSON 줄은 줄 번호와 함께 INVALID")
+    void parseNdjson() {
+        // given
+        String ndjson = "{\"nickname\":\"민수\",\"excluded_dates\":[\"2025-01-10\"],\"preferred_foods\":\"치킨\"}\n"
+                + "\n"
+                + "{\"nickname\":\"지영\",\n"
+                + "{\"nickname\":\"철수\",\"avoided_foods\":\"회\"}\n";
+
+        // when
+        List<ImportRow> rows = parser.parse(body(ndjson), MediaType.APPLICATION_NDJSON, 10);
+
+        // then
+        assertThat(rows).extracting(ImportRow::row).containsExactly(1, 3, 4);
+        assertThat(rows).extracting(ImportRow::isValid).containsExactly(true, false, true);
+        assertThat(rows.get(0).request().excludedDates()).hasSize(1);
+        assertThat(rows.get(2).request().avoidedFoods()).isEqualTo("회");
+    }
+
+    @Test
+    @DisplayName("행 수가 상한을 넘으면 InvalidImportFileException")
+    void parse_TooManyRows() {
+        // given
+        String ndjson = "{\"nickname\":\"a\"}\n{\"nickname\":\"b\"}\n{\"nickname\":\"c\"}\n";
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(body(ndjson), MediaType.APPLICATION_NDJSON, 2))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("2행");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Type이면 InvalidImportFileException")
+    void parse_UnsupportedMediaType() {
+        assertThatThrownBy(() -> parser.parse(body("{}"), MediaType.APPLICATION_JSON, 10))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ktb.submission.cache;
+
+import com.ktb.submission.config.RecommendationCacheProperties;
+import com.ktb.submission.dto.request.AiGenerateRequest;
+import com.ktb.submission.dto.request.RestaurantCandidate;
+import com.ktb.submission.dto.response.AiGenerateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecommendationCache 테스트")
+class RecommendationCacheTest {
+
+    private RecommendationCache recommendationCache;
+    private AtomicInteger llmCalls;
+
+    @BeforeEach
+    void setUp() {
+        recommendationCache = new RecommendationCache(new RecommendationCacheProperties(), new SimpleMeterRegistry());
+        llmCalls = new AtomicInteger();
+    }
+
+    private Mono<AiGenerateResponse> llm() {
+        return Mono.fromSupplier(() -> {
+            llmCalls.incrementAndGet();
+            return new AiGenerateResponse(List.of());
+        });
+    }
+
+    private static RestaurantCandidate candidate(String name) {
+        return new RestaurantCandidate(name, "korean_restaurant", "₩", 4.3, true, null);
+    }
+
+    private static AiGenerateRequest request(List<String> preferences, List<RestaurantCandidate> candidates, int budget) {
+        return new AiGenerateRequest(4, "강남역", preferences, List.of("생선"), budget, candidates, 400);
+    }
+
+    @Test
+    @DisplayName("후보 순서가 달라도 같은 키")
+    void keyOf_IgnoresCandidateOrdering() {
+        // given
+        AiGenerateRequest first = request(
+                List.of("치킨", "피자"), List.of(candidate("A식당"), candidate("B식당")), 20000);
+        AiGenerateRequest second = request(
+                List.of("치킨", "피자"), List.of(candidate("B식당"), candidate("A식당")), 20000);
+
+        // when & then
+        assertThat(RecommendationCache.keyOf(first)).isEqualTo(RecommendationCache.keyOf(second));
+    }
+
+    @Test
+    @DisplayName("같은 선호 음식이라도 순위(고른 멤버 수 순서)가 다르면 다른 키")
+    void keyOf_DifferentPreferenceRanking() {
+        // given: 치킨×5, 피자×1 그룹과 치킨×1, 피자×5 그룹
+        List<RestaurantCandidate> candidates = List.of(candidate("A식당"));
+        AiGenerateRequest chickenFirst = request(List.of("치킨", "피자"), candidates, 20000);
+        AiGenerateRequest pizzaFirst = request(List.of("피자", "치킨"), candidates, 20000);
+
+        // when & then
+        assertThat(RecommendationCache.keyOf(chickenFirst)).isNotEqualTo(RecommendationCache.keyOf(pizzaFirst));
+    }
+
+    @Test
+    @DisplayName("예산이 다르면 다른 키")
+    void keyOf_DifferentBudget() {
+        // given
+        List<RestaurantCandidate> candidates = List.of(candidate("A식당"));
+
+        // when & then
+        assertThat(RecommendationCache.keyOf(request(List.of("치킨"), candidates, 20000)))
+                .isNotEqualTo(RecommendationCache.keyOf(request(List.of("치킨"), candidates, 30000)));
+    }
+
+    @Test
+    @DisplayName("두 번째 요청은 LLM 호출 없이 캐시에서 반환")
+    void get_SecondRequestServedFromCache() {
+        // given
+        AiGenerateRequest request = request(List.of("치킨"), List.of(candidate("A식당")), 20000);
+
+        // when
+        RecommendationCache.Recommendation first = recommendationCache.get(request, this::llm).block();
+        RecommendationCache.Recommendation second = recommendationCache.get(request, this::llm).block();
+
+        // then
+        assertThat(first.cached()).isFalse();
+        assertThat(second.cached()).isTrue();
+        assertThat(llmCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("LLM 실패는 캐시하지 않음")
+    void get_FailureIsNotCached() {
+        // given
+        AiGenerateRequest request = request(List.of("치킨"), List.of(candidate("A식당")), 20000);
+
+        // when
+        try {
+            recommendationCache.get(request, () -> Mono.error(new RuntimeException("LLM Server Error"))).block();
+        } catch (RuntimeException ignored) {
+        }
+        RecommendationCache.Recommendation result = recommendationCache.get(request, this::llm).block();
+
+        // then
+        assertThat(result.cached()).isFalse();
+        assertThat(llmCalls.get()).isEqualTo(1);
+    }
+}
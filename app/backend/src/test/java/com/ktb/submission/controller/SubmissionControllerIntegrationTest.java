@@ -9,6 +9,7 @@ import com.ktb.submission.dto.request.SubmitRequest;
 import com.ktb.submission.repository.SubmissionRepository;
 import com.ktb.user.domain.UserIdentifier;
 import com.ktb.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,8 +29,10 @@ import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -110,20 +113,34 @@ class SubmissionControllerIntegrationTest {
         submissionRepository.save(submission);
     }
 
+    /**
+     * 통합 제출은 DB 조회를 별도 스레드(boundedElastic)에서 수행하므로
+     * 테스트 트랜잭션 롤백 대신 커밋된 데이터를 직접 정리한다.
+     */
+    @AfterEach
+    void tearDown() {
+        submissionRepository.deleteAll(submissionRepository.findAllByGroupId(testGroupId));
+        groupRepository.deleteById(testGroupId);
+        userRepository.delete(testUser);
+    }
+
     @Test
     @DisplayName("POST /api/v1/submission/total/{groupId} - 익명 사용자 접근 가능")
-    @Transactional
     void testTotalSubmit_AnonymousAccess_ShouldSucceed() throws Exception {
         // given
         System.out.println("\n=== 익명 사용자 접근 테스트 ===");
         System.out.println("인증 정보: 없음 (JWT 토큰 없이 요청)");
 
         // when & then
-        MvcResult result = mockMvc.perform(post("/api/v1/submission/total/{groupId}", testGroupId)
+        MvcResult asyncResult = mockMvc.perform(post("/api/v1/submission/total/{groupId}", testGroupId)
                         .with(csrf())  // CSRF 토큰 포함
                         .contentType(MediaType.APPLICATION_JSON)
                         // JWT 토큰도 보내지 않음
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andReturn();
@@ -134,7 +151,6 @@ class SubmissionControllerIntegrationTest {
 
     @Test
     @DisplayName("POST /api/v1/submission/total/{groupId} - 실제 LLM 서버 통신 테스트")
-    @Transactional
     void testTotalSubmit_WithRealLlmServer_ShouldReturnRecommendations() throws Exception {
         // given
         System.out.println("\n=== 실제 LLM 서버 통신 테스트 ===");
@@ -147,10 +163,14 @@ class SubmissionControllerIntegrationTest {
         System.out.println("  - 제출 수: 3개");
 
         // when
-        MvcResult result = mockMvc.perform(post("/api/v1/submission/total/{groupId}", testGroupId)
+        MvcResult asyncResult = mockMvc.perform(post("/api/v1/submission/total/{groupId}", testGroupId)
                         .with(csrf())  // CSRF 토큰 포함
                         .contentType(MediaType.APPLICATION_JSON)
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andReturn();
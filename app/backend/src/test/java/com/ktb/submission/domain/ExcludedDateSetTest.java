@@ -0,0 +1,84 @@
+package com.ktb.submission.domain;
+
+import com.ktb.submission.domain.converter.ExcludedDateSetConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExcludedDateSet 테스트")
+class ExcludedDateSetTest {
+
+    private final ExcludedDateSetConverter converter = new ExcludedDateSetConverter();
+
+    private static Date utcMidnight(String isoDate) {
+        return Date.from(LocalDate.parse(isoDate).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("비트맵 컬럼으로 왕복 변환 (중복 날짜는 하나로)")
+    void converter_RoundTrip() {
+        // given
+        ExcludedDateSet dates = ExcludedDateSet.of(List.of(
+                utcMidnight("2025-03-10"), utcMidnight("2025-03-01"), utcMidnight("2025-03-10")));
+
+        // when
+        String column = converter.convertToDatabaseColumn(dates);
+        ExcludedDateSet restored = converter.convertToEntityAttribute(column);
+
+        // then
+        assertThat(column).startsWith("v1:" + LocalDate.of(2025, 3, 1).toEpochDay() + ":");
+        assertThat(restored).isEqualTo(dates);
+        assertThat(restored.toLocalDates()).containsExactly(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 10));
+    }
+
+    @Test
+    @DisplayName("한 달을 통째로 막아도 컬럼 값은 짧음")
+    void encode_WholeMonthIsCompact() {
+        // given
+        ExcludedDateSet month = ExcludedDateSet.ofLocalDates(IntStream.range(0, 31)
+                .mapToObj(day -> LocalDate.of(2025, 3, 1).plusDays(day))
+                .toList());
+
+        // when
+        String column = month.encode();
+
+        // then
+        assertThat(month.size()).isEqualTo(31);
+        assertThat(column.length()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("빈 집합과 기존 제출(null)을 구분")
+    void converter_EmptyAndLegacy() {
+        // when & then
+        assertThat(converter.convertToDatabaseColumn(ExcludedDateSet.of(List.of()))).isEqualTo("v1:");
+        assertThat(converter.convertToEntityAttribute("v1:").isEmpty()).isTrue();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThatThrownBy(() -> converter.convertToEntityAttribute("2025-03-01"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("한국 시간 자정으로 보낸 날짜는 그 날짜로, Date로 되돌리면 같은 날짜")
+    void of_UsesServiceZone() {
+        // given: 프론트엔드는 "2025-03-01T00:00:00+09:00"을 toISOString()으로 보냄
+        Date kstMidnight = Date.from(Instant.parse("2025-02-28T15:00:00Z"));
+
+        // when
+        ExcludedDateSet dates = ExcludedDateSet.of(List.of(kstMidnight));
+
+        // then
+        assertThat(dates.toLocalDates()).containsExactly(LocalDate.of(2025, 3, 1));
+        assertThat(dates.toDates()).containsExactly(kstMidnight);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ktb.submission.migration;
+
+import com.ktb.group.domain.Group;
+import com.ktb.submission.config.ExcludedDateMigrationProperties;
+import com.ktb.submission.domain.ExcludedDateSet;
+import com.ktb.submission.domain.Submission;
+import com.ktb.submission.repository.SubmissionRepository;
+import com.ktb.user.domain.UserIdentifier;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ExcludedDateBackfillRunner.class, ExcludedDateMigrationProperties.class})
+@TestPropertySource(properties = {
+        "submission.migration.excluded-dates-backfill=true",
+        "submission.migration.batch-size=2"
+})
+@DisplayName("ExcludedDateBackfillRunner 테스트")
+class ExcludedDateBackfillRunnerTest {
+
+    @Autowired
+    private ExcludedDateBackfillRunner runner;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = new UserIdentifier("owner", "총무", "password");
+        entityManager.persist(owner);
+        group = Group.create(owner, 10, "강남역", 100000, true, new Date(), new Date());
+        entityManager.persist(group);
+    }
+
+    private static Date utcMidnight(String isoDate) {
+        return Date.from(LocalDate.parse(isoDate).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    // 비트맵 컬럼 도입 전 형식: excluded_dates는 NULL, 날짜는 event_date 행
+    private Long persistLegacySubmission(String nickname, String... isoDates) {
+        Submission submission = Submission.create(group, nickname, "", "", "", List.of());
+        entityManager.persist(submission);
+        entityManager.flush();
+        entityManager.createNativeQuery("update submission set excluded_dates = null where id = :id")
+                .setParameter("id", submission.getId())
+                .executeUpdate();
+        long eventDateId = submission.getId() * 100;
+        for (String isoDate : isoDates) {
+            entityManager.createNativeQuery(
+                            "insert into event_date (id, submission_id, date_value) values (:id, :submissionId, :value)")
+                    .setParameter("id", eventDateId++)
+                    .setParameter("submissionId", submission.getId())
+                    .setParameter("value", new Timestamp(utcMidnight(isoDate).getTime()))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        return submission.getId();
+    }
+
+    private List<LocalDate> excludedDays(Long submissionId) {
+        return submissionRepository.findById(submissionId).orElseThrow().getExcludedDates().stream()
+                .map(ExcludedDateSet::toLocalDate)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("event_date 행을 비트맵 컬럼으로 옮기고, 여러 번 실행해도 결과가 같음")
+    void run_BackfillsLegacySubmissions() {
+        // given
+        Long first = persistLegacySubmission("멤버1", "2025-03-01", "2025-03-03");
+        Long second = persistLegacySubmission("멤버2", "2025-03-02");
+        Long third = persistLegacySubmission("멤버3");
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+        runner.run(new DefaultApplicationArguments());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(submissionRepository.findUnmigratedExcludedDateIds(0L, Pageable.unpaged())).isEmpty();
+        assertThat(excludedDays(first)).containsExactly(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3));
+        assertThat(excludedDays(second)).containsExactly(LocalDate.of(2025, 3, 2));
+        assertThat(submissionRepository.findById(third).orElseThrow().isExcludedDatesMigrated()).isTrue();
+    }
+}
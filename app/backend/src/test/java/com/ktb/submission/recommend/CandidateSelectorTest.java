@@ -0,0 +1,148 @@
+package com.ktb.submission.recommend;
+
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import com.ktb.submission.config.CandidateSelectionProperties;
+import com.ktb.submission.dto.TotalUserSubmission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CandidateSelector 테스트")
+class CandidateSelectorTest {
+
+    private CandidateSelectionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private CandidateSelector candidateSelector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CandidateSelectionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        candidateSelector = new CandidateSelector(properties, meterRegistry);
+    }
+
+    private PlaceSummaryDto place(String primaryType, String name, double calcRating, String startPrice) {
+        NearbySearchResponse.PriceRange priceRange = startPrice == null ? null
+                : new NearbySearchResponse.PriceRange(new NearbySearchResponse.PriceRange.Money("KRW", startPrice, 0), null);
+        return new PlaceSummaryDto(primaryType, name, calcRating, 100, null, "서울 강남구",
+                priceRange, true, null, calcRating);
+    }
+
+    private TotalUserSubmission forbidden(String... foods) {
+        return TotalUserSubmission.of(List.of(), List.of(), List.of(foods));
+    }
+
+    private double pruned(String stage) {
+        return meterRegistry.get("recommendation.candidates.pruned").tag("stage", stage).counter().count();
+    }
+
+    @Test
+    @DisplayName("못 먹는 음식 후보와 1인 예산을 크게 넘는 후보를 제외하고 단계별 제외 수를 기록")
+    void select_AppliesExclusionsAndBudget() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("seafood_restaurant", "강남 횟집", 4.7, "30000"),
+                place("steak_house", "강남 스테이크", 4.6, "80000"),
+                place("korean_restaurant", "강남 한식당", 4.2, "15000"),
+                place("chinese_restaurant", "강남 중식당", 4.0, null)
+        );
+
+        // when
+        List<PlaceSummaryDto> selected = candidateSelector.select(candidates, forbidden("해산물"), 20000);
+
+        // then
+        assertThat(selected).extracting(PlaceSummaryDto::displayName)
+                .containsExactly("강남 한식당", "강남 중식당");
+        assertThat(pruned("excluded")).isEqualTo(1.0);
+        assertThat(pruned("budget")).isEqualTo(1.0);
+        assertThat(pruned("top_k")).isZero();
+    }
+
+    @Test
+    @DisplayName("못 먹는 음식은 좁은 업종 매핑과 이름으로만 제외하고 요리 전체를 지우지 않음")
+    void select_ForbiddenTermsUseNarrowTypes() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("korean_restaurant", "강남 한식당", 4.5, null),
+                place("korean_restaurant", "강남 분식", 4.4, null),
+                place("steak_house", "강남 스테이크", 4.3, null),
+                place("italian_restaurant", "강남 파스타", 4.2, null)
+        );
+
+        // when
+        List<PlaceSummaryDto> selected = candidateSelector.select(candidates, forbidden("분식", "양식"), 0);
+
+        // then
+        assertThat(selected).extracting(PlaceSummaryDto::displayName)
+                .containsExactly("강남 한식당", "강남 스테이크");
+        assertThat(pruned("excluded")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("top-K는 평점 순이되 같은 primaryType은 상한까지만 선택")
+    void select_TopKWithTypeDiversity() {
+        // given
+        properties.setMaxCandidates(4);
+        properties.setMaxPerPrimaryType(2);
+        List<PlaceSummaryDto> candidates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            candidates.add(place("korean_restaurant", "한식" + i, 4.9 - i * 0.1, null));
+        }
+        candidates.add(place("japanese_restaurant", "일식", 4.0, null));
+        candidates.add(place("italian_restaurant", "양식", 3.9, null));
+        candidates.add(place("cafe", "카페", 3.0, null));
+
+        // when
+        List<PlaceSummaryDto> selected = candidateSelector.select(candidates, new TotalUserSubmission(), 0);
+
+        // then
+        assertThat(selected).extracting(PlaceSummaryDto::displayName)
+                .containsExactly("한식0", "한식1", "일식", "양식");
+        assertThat(pruned("top_k")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("종류 제한으로 K개를 못 채우면 남은 후보를 평점 순으로 채움")
+    void select_RelaxesDiversityToFillK() {
+        // given
+        properties.setMaxCandidates(3);
+        properties.setMaxPerPrimaryType(1);
+        List<PlaceSummaryDto> candidates = List.of(
+                place("korean_restaurant", "한식A", 4.8, null),
+                place("korean_restaurant", "한식B", 4.6, null),
+                place("korean_restaurant", "한식C", 4.4, null),
+                place("cafe", "카페", 3.5, null)
+        );
+
+        // when
+        List<PlaceSummaryDto> selected = candidateSelector.select(candidates, new TotalUserSubmission(), 0);
+
+        // then
+        assertThat(selected).extracting(PlaceSummaryDto::displayName)
+                .containsExactly("한식A", "한식B", "카페");
+    }
+
+    @Test
+    @DisplayName("모든 후보가 예산을 넘으면 예산 필터를 적용하지 않음")
+    void select_KeepsCandidatesWhenAllOverBudget() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("steak_house", "스테이크A", 4.5, "90000"),
+                place("steak_house", "스테이크B", 4.3, "70000")
+        );
+
+        // when
+        List<PlaceSummaryDto> selected = candidateSelector.select(candidates, new TotalUserSubmission(), 10000);
+
+        // then
+        assertThat(selected).hasSize(2);
+        assertThat(pruned("budget")).isZero();
+    }
+}
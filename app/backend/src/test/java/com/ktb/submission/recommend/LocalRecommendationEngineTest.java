@@ -0,0 +1,111 @@
+package com.ktb.submission.recommend;
+
+import com.ktb.restaurant.google.dto.NearbySearchResponse;
+import com.ktb.restaurant.google.dto.PlaceSummaryDto;
+import com.ktb.submission.config.LocalRecommendationProperties;
+import com.ktb.submission.dto.TotalUserSubmission;
+import com.ktb.submission.dto.response.AiRecommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalRecommendationEngine 테스트")
+class LocalRecommendationEngineTest {
+
+    private LocalRecommendationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LocalRecommendationEngine(new LocalRecommendationProperties());
+    }
+
+    private PlaceSummaryDto place(String primaryType, String name, double calcRating, String startPrice, boolean goodForGroups) {
+        NearbySearchResponse.PriceRange priceRange = startPrice == null ? null
+                : new NearbySearchResponse.PriceRange(new NearbySearchResponse.PriceRange.Money("KRW", startPrice, 0), null);
+        return new PlaceSummaryDto(primaryType, name, calcRating, 200, null, "서울 강남구",
+                priceRange, goodForGroups, null, calcRating);
+    }
+
+    private TotalUserSubmission submissions(List<String> liked, List<String> disliked, List<String> forbidden) {
+        return TotalUserSubmission.of(liked, disliked, forbidden);
+    }
+
+    @Test
+    @DisplayName("여러 멤버가 선호한 메뉴의 식당이 평점이 조금 낮아도 먼저 추천됨")
+    void recommend_PrefersLikedFoods() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("italian_restaurant", "강남 파스타", 4.5, null, false),
+                place("chicken_restaurant", "강남 치킨", 4.2, null, false)
+        );
+        TotalUserSubmission total = submissions(List.of("치킨,피자", "치킨", "초밥"), List.of(), List.of());
+
+        // when
+        List<AiRecommendation> results = engine.recommend(candidates, total, 3, 0);
+
+        // then
+        assertThat(results).extracting(AiRecommendation::getDisplayName)
+                .containsExactly("강남 치킨", "강남 파스타");
+        assertThat(results.get(0).getReason()).contains("선호 메뉴 '치킨' 일치 (2/3명)");
+    }
+
+    @Test
+    @DisplayName("못 먹는 음식과 일치하는 식당은 제외")
+    void recommend_DropsExcludedFoods() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("seafood_restaurant", "강남 횟집", 4.8, null, true),
+                place("korean_restaurant", "강남 한식당", 4.0, null, true)
+        );
+        TotalUserSubmission total = submissions(List.of(), List.of(), List.of("회"));
+
+        // when
+        List<AiRecommendation> results = engine.recommend(candidates, total, 4, 0);
+
+        // then
+        assertThat(results).extracting(AiRecommendation::getDisplayName)
+                .containsExactly("강남 한식당");
+    }
+
+    @Test
+    @DisplayName("1인 예산을 넘는 식당은 감점되고, 인원이 많으면 단체석 식당에 가점")
+    void recommend_ScoresBudgetAndGroups() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("steak_house", "비싼 스테이크", 4.6, "60000", false),
+                place("korean_restaurant", "단체 한식당", 4.3, "15000", true)
+        );
+        TotalUserSubmission total = submissions(List.of(), List.of(), List.of());
+
+        // when
+        List<AiRecommendation> results = engine.recommend(candidates, total, 6, 20000);
+
+        // then
+        assertThat(results.get(0).getDisplayName()).isEqualTo("단체 한식당");
+        assertThat(results.get(0).getReason()).contains("1인 예산 이내", "단체 모임에 적합");
+        assertThat(results.get(1).getReason()).contains("1인 예산 초과 가능");
+    }
+
+    @Test
+    @DisplayName("설정한 개수만큼만 반환")
+    void recommend_LimitsResultCount() {
+        // given
+        List<PlaceSummaryDto> candidates = List.of(
+                place("korean_restaurant", "A", 4.0, null, false),
+                place("korean_restaurant", "B", 4.1, null, false),
+                place("korean_restaurant", "C", 4.2, null, false),
+                place("korean_restaurant", "D", 4.3, null, false)
+        );
+
+        // when
+        List<AiRecommendation> results = engine.recommend(candidates, new TotalUserSubmission(), 2, 0);
+
+        // then
+        assertThat(results).extracting(AiRecommendation::getDisplayName)
+                .containsExactly("D", "C", "B");
+    }
+}
@@ -0,0 +1,96 @@
+package com.ktb.submission.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DateAvailability 테스트")
+class DateAvailabilityTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Test
+    @DisplayName("전원 가능한 날짜를 날짜순으로 먼저 반환")
+    void rank_FreeDaysFirst() {
+        // given
+        DateAvailability availability = new DateAvailability(START, START.plusDays(4));
+        availability.excludeMember(List.of(START, START.plusDays(2)));
+        availability.excludeMember(List.of(START.plusDays(2)));
+
+        // when
+        List<DateAvailability.RankedDay> ranked = availability.rank(3);
+
+        // then
+        assertThat(availability.freeDayCount()).isEqualTo(3);
+        assertThat(ranked).containsExactly(
+                new DateAvailability.RankedDay(START.plusDays(1), 0),
+                new DateAvailability.RankedDay(START.plusDays(3), 0),
+                new DateAvailability.RankedDay(START.plusDays(4), 0)
+        );
+    }
+
+    @Test
+    @DisplayName("가능한 날짜가 모자라면 불참 인원이 적은 날짜로 채움")
+    void rank_FillsWithFewestConflicts() {
+        // given
+        DateAvailability availability = new DateAvailability(START, START.plusDays(2));
+        availability.exclude(START, 3);
+        availability.exclude(START.plusDays(1), 1);
+
+        // when
+        List<DateAvailability.RankedDay> ranked = availability.rank(3);
+
+        // then
+        assertThat(ranked).containsExactly(
+                new DateAvailability.RankedDay(START.plusDays(2), 0),
+                new DateAvailability.RankedDay(START.plusDays(1), 1),
+                new DateAvailability.RankedDay(START, 3)
+        );
+    }
+
+    @Test
+    @DisplayName("한 멤버의 중복 날짜는 1명으로, 범위 밖 날짜는 무시")
+    void excludeMember_DeduplicatesAndIgnoresOutOfWindow() {
+        // given
+        DateAvailability availability = new DateAvailability(START, START.plusDays(1));
+
+        // when
+        availability.excludeMember(List.of(START, START, START.minusDays(1), START.plusDays(5)));
+
+        // then
+        assertThat(availability.rank(2)).containsExactly(
+                new DateAvailability.RankedDay(START.plusDays(1), 0),
+                new DateAvailability.RankedDay(START, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("1년 범위, 멤버 500명도 날짜별 불참 인원을 정확히 계산")
+    void rank_YearLongWindowWithManyMembers() {
+        // given
+        DateAvailability availability = new DateAvailability(START, START.plusDays(364));
+        for (int member = 0; member < 500; member++) {
+            // 멤버마다 (member % 7)일째부터 7일 간격으로 불가
+            int offset = member % 7;
+            availability.excludeMember(IntStream.iterate(offset, d -> d < 365, d -> d + 7)
+                    .mapToObj(START::plusDays)
+                    .toList());
+        }
+
+        // when
+        List<DateAvailability.RankedDay> ranked = availability.rank(3);
+
+        // then: offset 0~2는 72명, 3~6은 71명 불참 → 71명인 날짜 중 이른 순
+        assertThat(availability.freeDayCount()).isZero();
+        assertThat(ranked).containsExactly(
+                new DateAvailability.RankedDay(START.plusDays(3), 71),
+                new DateAvailability.RankedDay(START.plusDays(4), 71),
+                new DateAvailability.RankedDay(START.plusDays(5), 71)
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.submission.schedule;
+
+import com.ktb.group.domain.Group;
+import com.ktb.submission.config.DateSuggestionProperties;
+import com.ktb.submission.dto.response.DateResult;
+import com.ktb.submission.dto.response.FinalDateResult;
+import com.ktb.submission.exception.InvalidExcludedDatesException;
+import com.ktb.user.domain.UserIdentifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("DateSuggestionEngine 테스트")
+class DateSuggestionEngineTest {
+
+    private DateSuggestionEngine engine;
+    private UserIdentifier owner;
+
+    @BeforeEach
+    void setUp() {
+        engine = new DateSuggestionEngine(new DateSuggestionProperties());
+        owner = new UserIdentifier("owner", "총무", "password");
+    }
+
+    private static Date date(String isoDate) {
+        return Date.from(LocalDate.parse(isoDate).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    private Group group(boolean hasScheduledDate, String start, String end) {
+        return Group.create(owner, 4, "강남역", 100000, hasScheduledDate, date(start), date(end));
+    }
+
+    @Test
+    @DisplayName("날짜를 정하지 않는 그룹은 null")
+    void suggest_NotScheduled() {
+        // when
+        FinalDateResult result = engine.suggest(group(false, "2025-03-01", "2025-03-07"), Map.of(), 4);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("집계된 날짜별 불참 인원으로 전원 가능한 날짜를 먼저 제안")
+    void suggest_FromAggregatedConflicts() {
+        // given
+        Map<LocalDate, Integer> conflicts = Map.of(
+                LocalDate.of(2025, 3, 1), 2,
+                LocalDate.of(2025, 3, 2), 1
+        );
+
+        // when
+        FinalDateResult result = engine.suggest(group(true, "2025-03-01", "2025-03-03"), conflicts, 4);
+
+        // then
+        assertThat(result.getResults())
+                .extracting(DateResult::getDate, DateResult::getDescription)
+                .containsExactly(
+                        tuple("2025-03-03", "전원 참석 가능 (4명)"),
+                        tuple("2025-03-02", "4명 중 1명 불참"),
+                        tuple("2025-03-01", "4명 중 2명 불참")
+                );
+    }
+
+    @Test
+    @DisplayName("범위가 상한보다 길면 시작일부터 상한 일수까지만 계산")
+    void suggest_ClampsWindow() {
+        // given
+        DateSuggestionProperties properties = new DateSuggestionProperties();
+        properties.setMaxWindowDays(2);
+        properties.setResultCount(5);
+        DateSuggestionEngine clamped = new DateSuggestionEngine(properties);
+
+        // when
+        FinalDateResult result = clamped.suggest(group(true, "2025-03-01", "2025-12-31"), Map.of(), 3);
+
+        // then
+        assertThat(result.getResults()).extracting(DateResult::getDate).containsExactly("2025-03-01", "2025-03-02");
+    }
+
+    @Test
+    @DisplayName("제외 날짜 범위가 상한을 넘으면 InvalidExcludedDatesException")
+    void validateExcludedDates_RejectsWideSpan() {
+        // given
+        List<Date> withinWindow = List.of(date("2025-01-01"), date("2025-12-31"));
+        List<Date> unbounded = List.of(date("0001-01-01"), date("9999-12-31"));
+
+        // when & then
+        engine.validateExcludedDates(withinWindow);
+        assertThatThrownBy(() -> engine.validateExcludedDates(unbounded))
+                .isInstanceOf(InvalidExcludedDatesException.class);
+    }
+
+    @Test
+    @DisplayName("제외 날짜에 빈 값(null)이 있으면 InvalidExcludedDatesException")
+    void validateExcludedDates_RejectsNullEntry() {
+        // given
+        List<Date> withNull = Arrays.asList(date("2025-01-01"), null);
+
+        // when & then
+        assertThatThrownBy(() -> engine.validateExcludedDates(withNull))
+                .isInstanceOf(InvalidExcludedDatesException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ktb.submission.service;
+
+import com.ktb.common.job.JobStatus;
+import com.ktb.submission.config.RecommendationJobProperties;
+import com.ktb.submission.dto.FinalResponseDto;
+import com.ktb.submission.dto.response.AiGenerateResponse;
+import com.ktb.submission.exception.LlmUnavailableException;
+import com.ktb.submission.exception.RecommendationJobRejectedException;
+import com.ktb.submission.job.RecommendationJob;
+import com.ktb.submission.recommend.RecommendationSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationJobService 테스트")
+class RecommendationJobServiceTest {
+
+    @Mock
+    private SubmissionService submissionService;
+
+    private RecommendationJobService recommendationJobService;
+
+    @BeforeEach
+    void setUp() {
+        // 작업을 별도 스레드에서 바로 실행
+        TaskExecutor executor = task -> new Thread(task).start();
+        recommendationJobService = new RecommendationJobService(submissionService, executor, new RecommendationJobProperties());
+    }
+
+    @Test
+    @DisplayName("같은 그룹의 작업이 진행 중이면 새 작업을 만들지 않고 합류")
+    void submit_AttachesToInFlightJob() throws Exception {
+        // given
+        Sinks.One<FinalResponseDto> llm = Sinks.one();
+        given(submissionService.totalSubmitAsync(1L)).willReturn(llm.asMono());
+
+        // when
+        RecommendationJob first = recommendationJobService.submit(1L);
+        RecommendationJob second = recommendationJobService.submit(1L);
+        llm.tryEmitValue(new FinalResponseDto(new AiGenerateResponse(List.of()), null, false, RecommendationSource.LLM));
+        first.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(first.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(recommendationJobService.findJob(first.getId())).contains(first);
+        verify(submissionService, times(1)).totalSubmitAsync(1L);
+    }
+
+    @Test
+    @DisplayName("완료된 그룹은 다시 제출하면 새 작업 생성")
+    void submit_AfterCompletion_CreatesNewJob() throws Exception {
+        // given
+        given(submissionService.totalSubmitAsync(1L))
+                .willReturn(Mono.just(new FinalResponseDto(new AiGenerateResponse(List.of()), null, false, RecommendationSource.LLM)));
+
+        // when
+        RecommendationJob first = recommendationJobService.submit(1L);
+        first.getCompletion().get(5, TimeUnit.SECONDS);
+        Thread.sleep(50); // finally 블록에서 진행 중 목록 정리
+        RecommendationJob second = recommendationJobService.submit(1L);
+
+        // then
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("보관 한도를 넘어도 진행 중인 작업은 축출되지 않음")
+    void submit_InFlightJobsAreNotEvicted() {
+        // given
+        RecommendationJobProperties properties = new RecommendationJobProperties();
+        properties.setMaximumJobs(1);
+        TaskExecutor idleExecutor = task -> { }; // 작업이 끝나지 않은 상태로 유지
+        RecommendationJobService service = new RecommendationJobService(submissionService, idleExecutor, properties);
+
+        // when
+        List<RecommendationJob> submitted = List.of(service.submit(1L), service.submit(2L), service.submit(3L));
+
+        // then
+        assertThat(submitted).allSatisfy(job ->
+                assertThat(service.findJob(job.getId())).contains(job));
+    }
+
+    @Test
+    @DisplayName("파이프라인 실패 시 FAILED 상태와 고정 에러 메시지 기록 (원인 메시지는 노출하지 않음)")
+    void submit_PipelineFailure_MarksFailed() throws Exception {
+        // given
+        given(submissionService.totalSubmitAsync(1L))
+                .willReturn(Mono.error(new RuntimeException("LLM Server Error (500)")));
+
+        // when
+        RecommendationJob job = recommendationJobService.submit(1L);
+        job.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage())
+                .isEqualTo("추천 작업에 실패했습니다. 잠시 후 다시 시도해 주세요.")
+                .doesNotContain("LLM Server Error");
+    }
+
+    @Test
+    @DisplayName("앱이 클라이언트용으로 만든 예외는 메시지를 그대로 기록")
+    void submit_LlmUnavailable_KeepsClientMessage() throws Exception {
+        // given
+        given(submissionService.totalSubmitAsync(1L))
+                .willReturn(Mono.error(new LlmUnavailableException("LLM 서버에 연결할 수 없습니다.")));
+
+        // when
+        RecommendationJob job = recommendationJobService.submit(1L);
+        job.getCompletion().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("LLM 서버에 연결할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 거절 예외 (503)")
+    void submit_QueueFull_Rejected() {
+        // given
+        TaskExecutor fullExecutor = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+        RecommendationJobService service =
+                new RecommendationJobService(submissionService, fullExecutor, new RecommendationJobProperties());
+
+        // when & then
+        assertThatThrownBy(() -> service.submit(1L))
+                .isInstanceOf(RecommendationJobRejectedException.class);
+        verify(submissionService, times(0)).totalSubmitAsync(any());
+    }
+}
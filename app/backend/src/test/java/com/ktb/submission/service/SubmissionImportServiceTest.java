@@ -0,0 +1,273 @@
+package com.ktb.submission.service;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.exception.NonExistGroupException;
+import com.ktb.group.repository.GroupMemberRepository;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
+import com.ktb.group.repository.GroupRepository;
+import com.ktb.group.service.GroupService;
+import com.ktb.restaurant.google.service.RestaurantSearchService;
+import com.ktb.submission.api.LlmApiClient;
+import com.ktb.submission.bulk.ImportRowStatus;
+import com.ktb.submission.bulk.SubmissionImportParser;
+import com.ktb.submission.cache.RecommendationCache;
+import com.ktb.submission.config.DateSuggestionProperties;
+import com.ktb.submission.config.LocalRecommendationProperties;
+import com.ktb.submission.config.SubmissionImportProperties;
+import com.ktb.submission.dto.request.SubmitRequest;
+import com.ktb.submission.dto.response.SubmissionImportResponse;
+import com.ktb.submission.dto.response.SubmissionImportRowResult;
+import com.ktb.submission.recommend.CandidateSelector;
+import com.ktb.submission.recommend.LocalRecommendationEngine;
+import com.ktb.submission.repository.SubmissionRepository;
+import com.ktb.submission.schedule.DateSuggestionEngine;
+import com.ktb.user.domain.UserIdentifier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+        SubmissionImportService.class,
+        SubmissionService.class,
+        GroupService.class,
+        SubmissionImportParser.class,
+        SubmissionImportProperties.class,
+        DateSuggestionEngine.class,
+        DateSuggestionProperties.class
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@DisplayName("SubmissionImportService 테스트")
+class SubmissionImportServiceTest {
+
+    private static final String HEADER = "nickname,excluded_dates,preferred_foods,avoided_foods,excluded_foods\n";
+
+    @Autowired
+    private SubmissionImportService submissionImportService;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private GroupPreferenceAggregateRepository aggregateRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RestaurantSearchService restaurantSearchService;
+
+    @MockBean
+    private LlmApiClient llmApiClient;
+
+    @MockBean
+    private RecommendationCache recommendationCache;
+
+    @MockBean
+    private CandidateSelector candidateSelector;
+
+    @MockBean
+    private LocalRecommendationEngine localRecommendationEngine;
+
+    @MockBean
+    private LocalRecommendationProperties localRecommendationProperties;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = new UserIdentifier("owner", "총무", "password");
+        entityManager.persist(owner);
+        for (int i = 0; i < 10; i++) {
+            entityManager.persist(new UserIdentifier("member" + i, "멤버" + i, "password"));
+        }
+        entityManager.flush();
+        ownerId = owner.getId();
+    }
+
+    private Long createGroup(int maxCapacity) {
+        Group group = Group.create(entityManager.find(UserIdentifier.class, ownerId),
+                maxCapacity, "강남역", 200000, false, new Date(), new Date());
+        entityManager.persist(group);
+        aggregateRepository.save(GroupPreferenceAggregate.create(group.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        return group.getId();
+    }
+
+    private SubmissionImportResponse importCsv(Long groupId, String rows) {
+        return submissionImportService.importSubmissions(groupId, ownerId, SubmissionImportParser.TEXT_CSV,
+                new ByteArrayInputStream((HEADER + rows).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("행별 상태를 돌려주고 정원 안의 행만 저장, 집계는 한 번에 반영")
+    void importSubmissions_RowStatuses() {
+        // given: 정원 3명 중 멤버0은 이미 개별 제출
+        Long groupId = createGroup(3);
+        Long member0Id = entityManager.createQuery(
+                        "select u.id from UserIdentifier u where u.nickname = '멤버0'", Long.class)
+                .getSingleResult();
+        submissionService.userSubmit(groupId, member0Id,
+                new SubmitRequest("멤버0", "M", 30, List.of(), "치킨", "", ""));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        SubmissionImportResponse response = importCsv(groupId,
+                "멤버0,,피자,,\n"
+                + "멤버1,2025-01-10,피자,회,\n"
+                + "멤버1,,피자,,\n"
+                + "없는사람,,피자,,\n"
+                + ",,피자,,\n"
+                + "멤버2,2025-01-10;2025-01-11,치킨,,\n"
+                + "멤버3,,한식,,\n");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.rows())
+                .extracting(SubmissionImportRowResult::status)
+                .containsExactly(
+                        ImportRowStatus.DUPLICATE,
+                        ImportRowStatus.IMPORTED,
+                        ImportRowStatus.DUPLICATE,
+                        ImportRowStatus.USER_NOT_FOUND,
+                        ImportRowStatus.INVALID,
+                        ImportRowStatus.IMPORTED,
+                        ImportRowStatus.OVER_CAPACITY
+                );
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(5);
+        assertThat(response.submitCount()).isEqualTo(3);
+
+        assertThat(groupRepository.findById(groupId).orElseThrow().getMemberCount()).isEqualTo(3);
+        assertThat(groupMemberRepository.countByGroupId(groupId)).isEqualTo(3);
+        assertThat(submissionRepository.findAllByGroupId(groupId)).hasSize(3);
+
+        GroupPreferenceAggregate aggregate = aggregateRepository.findById(groupId).orElseThrow();
+        assertThat(aggregate.getSubmissionCount()).isEqualTo(3);
+        assertThat(aggregate.getSubmitterNicknames()).containsExactly("멤버0", "멤버1", "멤버2");
+        assertThat(aggregate.getExcludedDateCounts())
+                .containsEntry(LocalDate.of(2025, 1, 10), 2)
+                .containsEntry(LocalDate.of(2025, 1, 11), 1);
+    }
+
+    @Test
+    @DisplayName("가져오는 행 수와 무관하게 SQL 문 수가 일정 (배치 INSERT)")
+    void importSubmissions_ConstantStatementCount() {
+        // given: 시퀀스 할당 등 최초 1회 비용 제외
+        Long groupId = createGroup(10);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        importCsv(groupId, "멤버0,,치킨,,\n");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        importCsv(groupId, "멤버1,,치킨,,\n멤버2,,피자,,\n");
+        entityManager.flush();
+        long twoRows = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        importCsv(groupId, "멤버3,,치킨,,\n멤버4,,피자,,\n멤버5,,한식,,\n멤버6,,중식,,\n멤버7,,일식,,\n");
+        entityManager.flush();
+        long fiveRows = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(fiveRows).isEqualTo(twoRows);
+    }
+
+    @Test
+    @DisplayName("제외 날짜 범위가 상한을 넘는 행은 INVALID, 나머지 행은 저장")
+    void importSubmissions_RejectsUnboundedDateSpan() {
+        // given
+        Long groupId = createGroup(3);
+
+        // when
+        SubmissionImportResponse response = importCsv(groupId,
+                "멤버1,0001-01-01;9999-12-31,치킨,,\n"
+                + "멤버2,2025-01-10,피자,,\n");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.rows())
+                .extracting(SubmissionImportRowResult::status)
+                .containsExactly(ImportRowStatus.INVALID, ImportRowStatus.IMPORTED);
+        assertThat(submissionRepository.findAllByGroupId(groupId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("제외 날짜에 null이 있는 NDJSON 행은 INVALID (500이 아님)")
+    void importSubmissions_NullExcludedDateIsInvalid() {
+        // given
+        Long groupId = createGroup(3);
+        String ndjson = "{\"nickname\":\"멤버1\",\"excluded_dates\":[null]}\n"
+                + "{\"nickname\":\"멤버2\",\"excluded_dates\":[]}\n";
+
+        // when
+        SubmissionImportResponse response = submissionImportService.importSubmissions(groupId, ownerId,
+                MediaType.APPLICATION_NDJSON, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(response.rows())
+                .extracting(SubmissionImportRowResult::status)
+                .containsExactly(ImportRowStatus.INVALID, ImportRowStatus.IMPORTED);
+    }
+
+    @Test
+    @DisplayName("그룹 총무가 아니면 NonExistGroupException, 아무것도 저장하지 않음")
+    void importSubmissions_NotOwner() {
+        // given
+        Long groupId = createGroup(3);
+        Long otherUserId = ownerId + 1;
+
+        // when & then
+        assertThatThrownBy(() -> submissionImportService.importSubmissions(groupId, otherUserId,
+                SubmissionImportParser.TEXT_CSV,
+                new ByteArrayInputStream((HEADER + "멤버1,,치킨,,\n").getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(NonExistGroupException.class);
+        assertThat(submissionRepository.findAllByGroupId(groupId)).isEmpty();
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktb.submission.service;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
+import com.ktb.group.repository.GroupRepository;
+import com.ktb.group.service.GroupService;
+import com.ktb.restaurant.google.service.RestaurantSearchService;
+import com.ktb.submission.api.LlmApiClient;
+import com.ktb.submission.cache.RecommendationCache;
+import com.ktb.submission.config.DateSuggestionProperties;
+import com.ktb.submission.config.LocalRecommendationProperties;
+import com.ktb.submission.domain.Submission;
+import com.ktb.submission.dto.FinalResponseDto;
+import com.ktb.submission.dto.response.DateResult;
+import com.ktb.submission.recommend.CandidateSelector;
+import com.ktb.submission.recommend.LocalRecommendationEngine;
+import com.ktb.submission.repository.SubmissionRepository;
+import com.ktb.submission.schedule.DateSuggestionEngine;
+import com.ktb.user.domain.UserIdentifier;
+import com.ktb.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 통합 제출의 추천 컨텍스트 (집계 행 / 날짜 추천)
+ * 컨텍스트는 boundedElastic 스레드에서 읽으므로 테스트 데이터를 커밋하고 끝나면 지운다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SubmissionService.class, GroupService.class, DateSuggestionEngine.class, DateSuggestionProperties.class})
+@DisplayName("SubmissionService 추천 컨텍스트 테스트")
+class SubmissionServiceRecommendationContextTest {
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupPreferenceAggregateRepository aggregateRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private RestaurantSearchService restaurantSearchService;
+
+    @MockBean
+    private LlmApiClient llmApiClient;
+
+    @MockBean
+    private RecommendationCache recommendationCache;
+
+    @MockBean
+    private CandidateSelector candidateSelector;
+
+    @MockBean
+    private LocalRecommendationEngine localRecommendationEngine;
+
+    @MockBean
+    private LocalRecommendationProperties localRecommendationProperties;
+
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = userRepository.save(new UserIdentifier("owner", "총무", "password"));
+        group = groupRepository.save(Group.create(owner, 3, "강남역", 90000, true,
+                utcMidnight("2025-03-01"), utcMidnight("2025-03-03")));
+
+        // 로컬 엔진 경로 (Places/후보 선정은 빈 결과)
+        given(restaurantSearchService.findRestaurantsByStationAsync(anyString()))
+                .willReturn(Mono.just(List.of()));
+        given(candidateSelector.select(anyList(), any(), anyInt())).willReturn(List.of());
+        given(localRecommendationProperties.getFastPathMaxPeople()).willReturn(10);
+        given(localRecommendationEngine.recommend(anyList(), any(), anyInt(), anyInt())).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from event_date");
+        submissionRepository.deleteAll();
+        aggregateRepository.deleteAll();
+        groupRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private static Date utcMidnight(String isoDate) {
+        return Date.from(LocalDate.parse(isoDate).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 그룹도 제출의 제외 날짜(기존 event_date 포함)로 날짜를 추천")
+    void totalSubmit_WithoutAggregate_UsesSubmittedExcludedDates() {
+        // given: 집계 행 없이 제출만 있는 그룹 (멤버3은 비트맵 도입 전 형식)
+        submissionRepository.save(Submission.create(group, "멤버1", "치킨", "", "", List.of(utcMidnight("2025-03-01"))));
+        submissionRepository.save(Submission.create(group, "멤버2", "피자", "", "", List.of(utcMidnight("2025-03-01"))));
+        Submission legacy = submissionRepository.save(Submission.create(group, "멤버3", "한식", "", "", List.of()));
+        jdbcTemplate.update("update submission set excluded_dates = null where id = ?", legacy.getId());
+        jdbcTemplate.update("insert into event_date (id, submission_id, date_value) values (?, ?, ?)",
+                legacy.getId() * 100, legacy.getId(), new Timestamp(utcMidnight("2025-03-02").getTime()));
+        assertThat(aggregateRepository.findById(group.getId())).isEmpty();
+
+        // when
+        FinalResponseDto response = submissionService.totalSubmit(group.getId());
+
+        // then
+        assertThat(response.getFinalDateResult().getResults())
+                .extracting(DateResult::getDate, DateResult::getDescription)
+                .containsExactly(
+                        tuple("2025-03-03", "전원 참석 가능 (3명)"),
+                        tuple("2025-03-02", "3명 중 1명 불참"),
+                        tuple("2025-03-01", "3명 중 2명 불참")
+                );
+    }
+}
@@ -0,0 +1,170 @@
+package com.ktb.submission.service;
+
+import com.ktb.group.domain.Group;
+import com.ktb.group.domain.GroupPreferenceAggregate;
+import com.ktb.group.repository.GroupPreferenceAggregateRepository;
+import com.ktb.group.service.GroupService;
+import com.ktb.restaurant.google.service.RestaurantSearchService;
+import com.ktb.submission.api.LlmApiClient;
+import com.ktb.submission.cache.RecommendationCache;
+import com.ktb.submission.config.LocalRecommendationProperties;
+import com.ktb.submission.dto.request.SubmitRequest;
+import com.ktb.submission.exception.AlreadySubmittedUserException;
+import com.ktb.submission.recommend.CandidateSelector;
+import com.ktb.submission.recommend.LocalRecommendationEngine;
+import com.ktb.submission.schedule.DateSuggestionEngine;
+import com.ktb.user.domain.UserIdentifier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 개별 제출 쓰기 경로의 SQL 문 수 검증 (Hibernate statistics)
+ * 제외 날짜 수와 무관하게 일정해야 한다.
+ */
+@DataJpaTest
+@Import({SubmissionService.class, GroupService.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@DisplayName("SubmissionService 개별 제출 쿼리 테스트")
+class SubmissionServiceSubmitQueryTest {
+
+    private static final long MAX_STATEMENTS_PER_SUBMIT = 8;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private GroupPreferenceAggregateRepository aggregateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private RestaurantSearchService restaurantSearchService;
+
+    @MockBean
+    private LlmApiClient llmApiClient;
+
+    @MockBean
+    private RecommendationCache recommendationCache;
+
+    @MockBean
+    private CandidateSelector candidateSelector;
+
+    @MockBean
+    private LocalRecommendationEngine localRecommendationEngine;
+
+    @MockBean
+    private LocalRecommendationProperties localRecommendationProperties;
+
+    @MockBean
+    private DateSuggestionEngine dateSuggestionEngine;
+
+    private Statistics statistics;
+    private Long groupId;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserIdentifier owner = new UserIdentifier("owner", "총무", "password");
+        entityManager.persist(owner);
+        Group group = Group.create(owner, 10, "강남역", 200000, false, new Date(), new Date());
+        entityManager.persist(group);
+        aggregateRepository.save(GroupPreferenceAggregate.create(group.getId()));
+
+        memberIds.clear();
+        for (int i = 0; i < 3; i++) {
+            UserIdentifier member = new UserIdentifier("member" + i, "멤버" + i, "password");
+            entityManager.persist(member);
+            memberIds.add(member.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        groupId = group.getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private SubmitRequest request(String nickname, int excludedDateCount) {
+        List<Date> excludedDates = new ArrayList<>();
+        for (int i = 0; i < excludedDateCount; i++) {
+            excludedDates.add(new Date(1_700_000_000_000L + i * 86_400_000L));
+        }
+        return new SubmitRequest(nickname, "M", 30, excludedDates, "치킨", "생선", "");
+    }
+
+    private long statementsFor(int memberIndex, int excludedDateCount) {
+        statistics.clear();
+        submissionService.userSubmit(groupId, memberIds.get(memberIndex), request("멤버" + memberIndex, excludedDateCount));
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    @Test
+    @DisplayName("제외 날짜 수와 무관하게 제출당 SQL 문 수가 일정")
+    void userSubmit_ConstantStatementCount() {
+        // given: 시퀀스 할당 등 최초 1회 비용 제외
+        statementsFor(0, 1);
+
+        // when
+        long withOneDate = statementsFor(1, 1);
+        long withTenDates = statementsFor(2, 10);
+
+        // then
+        assertThat(withTenDates).isEqualTo(withOneDate);
+        assertThat(withOneDate).isLessThanOrEqualTo(MAX_STATEMENTS_PER_SUBMIT);
+    }
+
+    @Test
+    @DisplayName("같은 그룹에 같은 닉네임으로 다시 제출하면 AlreadySubmittedUserException")
+    void userSubmit_DuplicateNicknameInGroup() {
+        // given
+        submissionService.userSubmit(groupId, memberIds.get(0), request("멤버0", 1));
+        entityManager.flush();
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.userSubmit(groupId, memberIds.get(1), request("멤버0", 1)))
+                .isInstanceOf(AlreadySubmittedUserException.class);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 그룹에 다시 제출해도 FullJoinMemberException이 아닌 AlreadySubmittedUserException")
+    void userSubmit_DuplicateInFullGroup() {
+        // given: 정원 1명 그룹에 멤버0이 제출해 정원이 참
+        Group fullGroup = Group.create(entityManager.find(UserIdentifier.class, memberIds.get(0)),
+                1, "강남역", 100000, false, new Date(), new Date());
+        entityManager.persist(fullGroup);
+        entityManager.flush();
+        submissionService.userSubmit(fullGroup.getId(), memberIds.get(0), request("멤버0", 1));
+        entityManager.flush();
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.userSubmit(fullGroup.getId(), memberIds.get(0), request("멤버0", 1)))
+                .isInstanceOf(AlreadySubmittedUserException.class);
+    }
+}